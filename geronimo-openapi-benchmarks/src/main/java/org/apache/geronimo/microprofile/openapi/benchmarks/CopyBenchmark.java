@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+
+import org.apache.geronimo.microprofile.openapi.impl.loader.ApiBindings;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.copy.OpenAPICopier;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// deep copies (and frozen snapshots) of the model compared to a JSON-B round trip (configured as DefaultLoader does)
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class CopyBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int operations;
+
+    private OpenAPI api;
+    private Jsonb jsonb;
+    private OpenAPICopier copier;
+    private OpenAPICopier treeCopier;
+
+    @Setup
+    public void setup() {
+        api = Synthetic.openApi(operations);
+        jsonb = JsonbBuilder.create(new JsonbConfig()
+                .setProperty("johnzon.interfaceImplementationMapping", ApiBindings.get()));
+        copier = new OpenAPICopier();
+        treeCopier = new OpenAPICopier(false);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public OpenAPI jsonRoundTrip() {
+        return jsonb.fromJson(jsonb.toJson(api), OpenAPIImpl.class);
+    }
+
+    @Benchmark
+    public OpenAPI copy() {
+        return copier.copy(api);
+    }
+
+    @Benchmark
+    public OpenAPI treeCopy() {
+        return treeCopier.copy(api);
+    }
+
+    @Benchmark
+    public OpenAPI freeze() {
+        return copier.freeze(api);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+// a model deep enough (and with cycles) to stress the schema mapping
+public final class Dtos {
+    private Dtos() {
+        // no-op
+    }
+
+    public enum Status {
+        CREATED, PAID, SHIPPED, DELIVERED, CANCELLED
+    }
+
+    public enum Unit {
+        MM, CM, M
+    }
+
+    public static class Geo {
+        public double latitude;
+        public double longitude;
+    }
+
+    public static class Region {
+        public String name;
+        public List<Country> countries;
+    }
+
+    public static class Country {
+        public String code;
+        public String name;
+        public Region region;
+    }
+
+    public static class Address {
+        public String street;
+        public String zipCode;
+        public String city;
+        public Country country;
+        public Geo geo;
+    }
+
+    public static class Contact {
+        public String kind;
+        public String value;
+        public Customer owner;
+    }
+
+    public static class Customer {
+        public String id;
+        public String name;
+        public Date birthday;
+        public Address billing;
+        public Address shipping;
+        public List<Contact> contacts;
+        public Map<String, String> preferences;
+    }
+
+    public static class Label {
+        public String key;
+        public String value;
+    }
+
+    public static class Dimensions {
+        public double width;
+        public double height;
+        public double depth;
+        public Unit unit;
+    }
+
+    public static class Category {
+        public String name;
+        public Category parent;
+        public List<Category> children;
+    }
+
+    public static class Product {
+        public String sku;
+        public String name;
+        public String description;
+        public Category category;
+        public List<Label> labels;
+        public Dimensions dimensions;
+    }
+
+    public static class Line {
+        public int quantity;
+        public BigDecimal price;
+        public Product product;
+    }
+
+    public static class Order {
+        public String id;
+        public Date created;
+        public Status status;
+        public BigDecimal total;
+        public Customer customer;
+        public List<Line> lines;
+        public Map<String, Label> attributes;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.CompactSchemaImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// retained heap of components with 20k typical schemas (objects of a string, an int and a ref):
+// the used heap after a full GC with the model reachable minus the used heap before building it,
+// reported as the "retainedBytes" secondary result (the time is not relevant)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseSerialGC")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@OutputTimeUnit(MILLISECONDS)
+public class FootprintBenchmark {
+    private static final int SCHEMAS = 20_000;
+
+    @Param({"SchemaImpl", "CompactSchemaImpl"})
+    private String layout;
+
+    private Supplier<Schema> factory;
+    private String[] names;
+    private Components model; // keeps the model reachable while the heap is measured
+
+    @Setup
+    public void setup() {
+        factory = "SchemaImpl".equals(layout) ? SchemaImpl::new : CompactSchemaImpl::new;
+        names = new String[SCHEMAS / 4];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Dto" + i;
+        }
+    }
+
+    @Benchmark
+    public void retained(final Footprint footprint) {
+        final long before = usedHeap();
+        model = build();
+        footprint.retainedBytes = usedHeap() - before;
+        model = null;
+    }
+
+    private Components build() {
+        final Components components = new ComponentsImpl();
+        for (int i = 0; i < names.length; i++) {
+            components.addSchema(names[i], factory.get()
+                    .type(Schema.SchemaType.OBJECT)
+                    .addProperty("name", factory.get().type(Schema.SchemaType.STRING).maxLength(64))
+                    .addProperty("count", factory.get().type(Schema.SchemaType.INTEGER).format("int32")
+                            .minimum(BigDecimal.ZERO))
+                    .addProperty("next", factory.get().ref(names[(i + 1) % names.length])));
+        }
+        return components;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) { // garbage of the build (replaced arrays, rehashes) is not part of the footprint
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytes;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+// JAX-RS and OpenAPI metadata live on the interface so every lookup has to merge the implementation and the API
+@Path("many")
+public interface ManyMethodsApi {
+    @GET
+    @Path("resource0/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get0", summary = "Get #0")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource0")
+    String get0(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource1/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get1", summary = "Get #1")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource1")
+    String get1(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource2/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get2", summary = "Get #2")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource2")
+    String get2(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource3/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get3", summary = "Get #3")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource3")
+    String get3(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource4/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get4", summary = "Get #4")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource4")
+    String get4(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource5/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get5", summary = "Get #5")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource5")
+    String get5(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource6/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get6", summary = "Get #6")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource6")
+    String get6(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource7/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get7", summary = "Get #7")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource7")
+    String get7(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource8/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get8", summary = "Get #8")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource8")
+    String get8(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource9/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get9", summary = "Get #9")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource9")
+    String get9(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource10/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get10", summary = "Get #10")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource10")
+    String get10(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource11/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get11", summary = "Get #11")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource11")
+    String get11(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource12/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get12", summary = "Get #12")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource12")
+    String get12(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource13/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get13", summary = "Get #13")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource13")
+    String get13(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource14/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get14", summary = "Get #14")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource14")
+    String get14(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource15/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get15", summary = "Get #15")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource15")
+    String get15(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource16/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get16", summary = "Get #16")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource16")
+    String get16(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource17/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get17", summary = "Get #17")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource17")
+    String get17(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource18/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get18", summary = "Get #18")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource18")
+    String get18(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource19/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get19", summary = "Get #19")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource19")
+    String get19(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource20/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get20", summary = "Get #20")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource20")
+    String get20(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource21/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get21", summary = "Get #21")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource21")
+    String get21(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource22/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get22", summary = "Get #22")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource22")
+    String get22(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    @GET
+    @Path("resource23/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "get23", summary = "Get #23")
+    @APIResponse(responseCode = "200", description = "Found")
+    @Tag(name = "resource23")
+    String get23(@PathParam("id") String id, @QueryParam("expand") @DefaultValue("false") boolean expand,
+                  @HeaderParam("X-Tenant") String tenant);
+
+    class Impl implements ManyMethodsApi {
+        @Override
+        @Deprecated
+        public String get0(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get1(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get2(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get3(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get4(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get5(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get6(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get7(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get8(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get9(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get10(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get11(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get12(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get13(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get14(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get15(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get16(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get17(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get18(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get19(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get20(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get21(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get22(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+
+        @Override
+        @Deprecated
+        public String get23(final String id, final boolean expand, final String tenant) {
+            return id;
+        }
+    }
+}
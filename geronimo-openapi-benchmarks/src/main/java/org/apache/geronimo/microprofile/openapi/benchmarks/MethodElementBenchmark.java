@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.ws.rs.BeanParam;
+import javax.ws.rs.CookieParam;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HEAD;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.OPTIONS;
+import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedTypeElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.MethodElement;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.callbacks.Callback;
+import org.eclipse.microprofile.openapi.annotations.extensions.Extension;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Replays the annotation lookups the processor does per operation on a resource with many methods,
+ * {@code streamPerLookup} is the previous implementation scanning all delegates for each lookup.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class MethodElementBenchmark {
+    private static final Class<? extends Annotation>[] METHOD_LOOKUPS = types(
+            GET.class, POST.class, PUT.class, DELETE.class, HEAD.class, OPTIONS.class, Path.class, Produces.class,
+            Operation.class, APIResponse.class, Callback.class, Extension.class, Tag.class, RequestBody.class,
+            SecurityRequirement.class);
+    private static final Class<? extends Annotation>[] PARAMETER_LOOKUPS = types(
+            PathParam.class, QueryParam.class, HeaderParam.class, CookieParam.class, BeanParam.class,
+            Context.class, Parameter.class, RequestBody.class);
+
+    private Method[] methods;
+    private Method[][] delegates;
+    private MethodElement[] elements;
+
+    @Setup
+    public void setup() {
+        methods = Stream.of(ManyMethodsApi.Impl.class.getMethods())
+                .filter(m -> m.getDeclaringClass() == ManyMethodsApi.Impl.class)
+                .toArray(Method[]::new);
+        delegates = Stream.of(methods).map(MethodElementBenchmark::delegates).toArray(Method[][]::new);
+        elements = Stream.of(methods).map(MethodElement::new).toArray(MethodElement[]::new);
+    }
+
+    @Benchmark
+    public void memoized(final Blackhole blackhole) {
+        for (final MethodElement element : elements) {
+            lookup(element, blackhole);
+        }
+    }
+
+    @Benchmark // the processor creates the elements for each scan so ensure the precomputation pays off
+    public void memoizedIncludingCreation(final Blackhole blackhole) {
+        for (final Method method : methods) {
+            lookup(new MethodElement(method), blackhole);
+        }
+    }
+
+    @Benchmark
+    public void streamPerLookup(final Blackhole blackhole) {
+        for (final Method[] delegate : delegates) {
+            streamLookup(delegate, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void streamPerLookupIncludingCreation(final Blackhole blackhole) {
+        for (final Method method : methods) {
+            streamLookup(delegates(method), blackhole);
+        }
+    }
+
+    private static void lookup(final MethodElement element, final Blackhole blackhole) {
+        for (final Class<? extends Annotation> type : METHOD_LOOKUPS) {
+            blackhole.consume(element.getAnnotation(type));
+        }
+        for (final AnnotatedTypeElement parameter : element.getParameters()) {
+            for (final Class<? extends Annotation> type : PARAMETER_LOOKUPS) {
+                blackhole.consume(parameter.getAnnotation(type));
+            }
+        }
+    }
+
+    private static void streamLookup(final Method[] delegate, final Blackhole blackhole) {
+        for (final Class<? extends Annotation> type : METHOD_LOOKUPS) {
+            blackhole.consume(Stream.of(delegate)
+                    .filter(d -> d.isAnnotationPresent(type))
+                    .map(d -> d.getAnnotation(type))
+                    .findFirst().orElse(null));
+        }
+        final int parameterCount = delegate[0].getParameterCount();
+        for (int p = 0; p < parameterCount; p++) {
+            final int index = p;
+            for (final Class<? extends Annotation> type : PARAMETER_LOOKUPS) {
+                blackhole.consume(Stream.of(delegate)
+                        .map(m -> m.getParameters()[index])
+                        .filter(it -> it.isAnnotationPresent(type))
+                        .map(it -> it.getAnnotation(type))
+                        .findFirst().orElse(null));
+            }
+        }
+    }
+
+    private static Method[] delegates(final Method method) {
+        return Stream.concat(Stream.of(method), Stream.of(method.getDeclaringClass().getInterfaces())
+                .map(it -> {
+                    try {
+                        return it.getMethod(method.getName(), method.getParameterTypes());
+                    } catch (final NoSuchMethodException e) {
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull))
+                .toArray(Method[]::new);
+    }
+
+    @SafeVarargs
+    private static Class<? extends Annotation>[] types(final Class<? extends Annotation>... types) {
+        return types;
+    }
+}
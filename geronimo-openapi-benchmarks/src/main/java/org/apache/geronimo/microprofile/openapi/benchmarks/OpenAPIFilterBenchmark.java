@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+
+import org.apache.geronimo.microprofile.openapi.cdi.GeronimoOpenAPIExtension;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIDocument;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIFilter;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIYamlBodyWriter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serves the document through {@link OpenAPIFilter} without a container:
+ * the JAX-RS runtime pieces the filter relies on (request, providers, extension) are stubbed,
+ * {@code serve} hits the rendered cache and {@code renderAndServe} invalidates it first.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public class OpenAPIFilterBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int operations;
+
+    @Param({"openapi.json", "openapi.yaml"})
+    private String path;
+
+    @Param({"identity", "gzip"})
+    private String acceptEncoding;
+
+    private Jsonb jsonb;
+    private OpenAPIFilter filter;
+    private ContainerRequestContext request;
+    private Response response;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() throws Exception {
+        jsonb = JsonbBuilder.create();
+        out = new ByteArrayOutputStream();
+
+        final OpenAPIDocument document = new OpenAPIDocument(Synthetic.openApi(operations));
+        final OpenAPIJsonWriter jsonWriter = new OpenAPIJsonWriter();
+        filter = new OpenAPIFilter();
+        inject(filter, "extension", new GeronimoOpenAPIExtension() {
+            @Override
+            public OpenAPIDocument getOrCreateDocument(final Application application) {
+                return document;
+            }
+
+            @Override
+            public List<String> getCompressionEncodings() {
+                return singletonList("gzip");
+            }
+
+            @Override
+            public MediaType getDefaultMediaType() {
+                return MediaType.APPLICATION_JSON_TYPE;
+            }
+
+            @Override
+            public OpenAPIJsonWriter getJsonWriter() {
+                return jsonWriter;
+            }
+        });
+        inject(filter, "providers", new BenchmarkProviders(jsonb));
+        final Method init = OpenAPIFilter.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(filter);
+        filter.setApplication(new Application());
+
+        request = newRequest();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public int serve() throws IOException {
+        return doServe();
+    }
+
+    @Benchmark
+    public int renderAndServe() throws IOException {
+        filter.invalidate();
+        return doServe();
+    }
+
+    private int doServe() throws IOException {
+        response = null;
+        filter.filter(request);
+        out.reset();
+        StreamingOutput.class.cast(response.getEntity()).write(out);
+        return out.size();
+    }
+
+    private ContainerRequestContext newRequest() {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        final Request jaxrsRequest = Request.class.cast(Proxy.newProxyInstance(loader, new Class<?>[]{Request.class},
+                (proxy, method, args) -> "getMethod".equals(method.getName()) ? "GET" : null));
+        final UriInfo uriInfo = UriInfo.class.cast(Proxy.newProxyInstance(loader, new Class<?>[]{UriInfo.class},
+                (proxy, method, args) -> "getPath".equals(method.getName()) ? path : null));
+        return ContainerRequestContext.class.cast(Proxy.newProxyInstance(loader, new Class<?>[]{ContainerRequestContext.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getRequest":
+                            return jaxrsRequest;
+                        case "getUriInfo":
+                            return uriInfo;
+                        case "getAcceptableMediaTypes":
+                            return emptyList();
+                        case "getHeaderString":
+                            return HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase(String.valueOf(args[0])) ? acceptEncoding : null;
+                        case "abortWith":
+                            response = Response.class.cast(args[0]);
+                            return null;
+                        default:
+                            return null;
+                    }
+                }));
+    }
+
+    private static void inject(final Object instance, final String name, final Object value) throws Exception {
+        final Field field = instance.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+
+    // what the JAX-RS runtime would resolve: JSON-B for JSON and the Jackson writer for YAML
+    private static class BenchmarkProviders implements Providers {
+        private final MessageBodyWriter<OpenAPI> json;
+        private final MessageBodyWriter<OpenAPI> yaml = new OpenAPIYamlBodyWriter<>();
+
+        private BenchmarkProviders(final Jsonb jsonb) {
+            this.json = new MessageBodyWriter<OpenAPI>() {
+                @Override
+                public boolean isWriteable(final Class<?> type, final Type genericType,
+                                           final Annotation[] annotations, final MediaType mediaType) {
+                    return true;
+                }
+
+                @Override
+                public long getSize(final OpenAPI openAPI, final Class<?> type, final Type genericType,
+                                    final Annotation[] annotations, final MediaType mediaType) {
+                    return -1;
+                }
+
+                @Override
+                public void writeTo(final OpenAPI openAPI, final Class<?> type, final Type genericType,
+                                    final Annotation[] annotations, final MediaType mediaType,
+                                    final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream) {
+                    jsonb.toJson(openAPI, entityStream);
+                }
+            };
+        }
+
+        @Override
+        public <T> MessageBodyWriter<T> getMessageBodyWriter(final Class<T> type, final Type genericType,
+                                                             final Annotation[] annotations, final MediaType mediaType) {
+            return (MessageBodyWriter<T>) (MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType) ? json : yaml);
+        }
+
+        @Override
+        public <T> MessageBodyReader<T> getMessageBodyReader(final Class<T> type, final Type genericType,
+                                                             final Annotation[] annotations, final MediaType mediaType) {
+            return null;
+        }
+
+        @Override
+        public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(final Class<T> type) {
+            return null;
+        }
+
+        @Override
+        public <T> ContextResolver<T> getContextResolver(final Class<T> contextType, final MediaType mediaType) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.processor.SchemaCache;
+import org.apache.geronimo.microprofile.openapi.impl.processor.SchemaProcessor;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// maps DTO graphs of increasing depth, from a leaf (Geo) to the whole model (Order)
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class SchemaBenchmark {
+    @Param({"Geo", "Address", "Customer", "Order"})
+    private String root;
+
+    private Class<?> type;
+    private ClassLoader cacheKey; // the cache is weakly bound to it
+    private SchemaCache cache;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        type = Class.forName(Dtos.class.getName() + '$' + root);
+        cacheKey = new URLClassLoader(new URL[0], null);
+        cache = SchemaCache.forLoader(cacheKey);
+    }
+
+    @Benchmark
+    public Schema cold() {
+        final Components components = new ComponentsImpl();
+        return new SchemaProcessor().mapSchemaFromClass(() -> components, type);
+    }
+
+    @Benchmark
+    public Schema sharedCache() {
+        final Components components = new ComponentsImpl();
+        return new SchemaProcessor(cache).mapSchemaFromClass(() -> components, type);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIYamlWriter;
+import org.apache.geronimo.microprofile.openapi.jaxrs.JacksonOpenAPIYamlBodyWriter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class SerializationBenchmark {
+    private static final MediaType YAML = new MediaType("text", "vnd.yaml");
+
+    @Param({"10", "100", "1000", "5000", "10000"})
+    private int operations;
+
+    private OpenAPI api;
+    private Jsonb jsonb;
+    private OpenAPIJsonWriter writer;
+    private OpenAPIYamlWriter yamlWriter;
+    private JacksonOpenAPIYamlBodyWriter<OpenAPI> yaml;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        api = Synthetic.openApi(operations);
+        jsonb = JsonbBuilder.create();
+        writer = new OpenAPIJsonWriter();
+        yamlWriter = new OpenAPIYamlWriter();
+        yaml = new JacksonOpenAPIYamlBodyWriter<>();
+        out = new ByteArrayOutputStream();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public int jsonb() {
+        out.reset();
+        jsonb.toJson(api, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int nativeJson() {
+        out.reset();
+        writer.write(api, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int nativeYaml() {
+        out.reset();
+        yamlWriter.write(api, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int jacksonYaml() throws IOException {
+        out.reset();
+        yaml.writeTo(api, OpenAPI.class, OpenAPI.class, new Annotation[0], YAML, new MultivaluedHashMap<>(), out);
+        return out.size();
+    }
+}
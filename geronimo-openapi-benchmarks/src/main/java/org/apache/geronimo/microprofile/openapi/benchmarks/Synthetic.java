@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.benchmarks;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.ws.rs.Path;
+
+import org.apache.geronimo.microprofile.openapi.config.GeronimoOpenAPIConfig;
+import org.apache.geronimo.microprofile.openapi.impl.model.InfoImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedMethodElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedTypeElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessor;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.ClassElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.MethodElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.spi.NamingStrategy;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+// generates resources of any size from the SyntheticResource templates, each operation gets its own path and id
+public final class Synthetic {
+    private static final MethodElement[] TEMPLATES = Stream.of(SyntheticResource.class.getMethods())
+            .filter(m -> m.getDeclaringClass() == SyntheticResource.class)
+            .sorted((m1, m2) -> m1.getName().compareTo(m2.getName()))
+            .map(MethodElement::new)
+            .toArray(MethodElement[]::new);
+
+    private Synthetic() {
+        // no-op
+    }
+
+    public static ClassElement resource() {
+        return new ClassElement(SyntheticResource.class);
+    }
+
+    public static List<AnnotatedMethodElement> operations(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new SyntheticMethod(TEMPLATES[i % TEMPLATES.length], i))
+                .collect(toList());
+    }
+
+    public static AnnotationProcessor newProcessor() {
+        return new AnnotationProcessor(GeronimoOpenAPIConfig.create(), new NamingStrategy.Default(), null);
+    }
+
+    public static OpenAPI openApi(final int operations) {
+        final OpenAPI api = new OpenAPIImpl().openapi("3.0.1").info(new InfoImpl().title("synthetic").version("1.0"));
+        newProcessor().processClass("", api, resource(), operations(operations).stream());
+        return api;
+    }
+
+    private static final class SyntheticMethod implements AnnotatedMethodElement {
+        private final MethodElement template;
+        private final Map<Class<? extends Annotation>, Annotation> annotations;
+        private final Annotation[] annotationArray;
+
+        private SyntheticMethod(final MethodElement template, final int index) {
+            this.template = template;
+
+            this.annotations = new LinkedHashMap<>();
+            Stream.of(template.getAnnotations()).forEach(a -> annotations.put(a.annotationType(), a));
+            annotations.put(Path.class, path("op" + index + "/{id}"));
+            annotations.put(Operation.class, operation("op" + index, template.getName() + " #" + index));
+            this.annotationArray = annotations.values().toArray(new Annotation[0]);
+        }
+
+        @Override
+        public String getName() {
+            return template.getName();
+        }
+
+        @Override
+        public Type getReturnType() {
+            return template.getReturnType();
+        }
+
+        @Override
+        public Class<?> getDeclaringClass() {
+            return template.getDeclaringClass();
+        }
+
+        @Override
+        public AnnotatedTypeElement[] getParameters() {
+            return template.getParameters();
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(final Class<T> annotationClass) {
+            return annotationClass.cast(annotations.get(annotationClass));
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            return annotationArray;
+        }
+
+        @Override
+        public Annotation[] getDeclaredAnnotations() {
+            return getAnnotations();
+        }
+    }
+
+    private static Path path(final String value) {
+        return new Path() {
+            @Override
+            public String value() {
+                return value;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return Path.class;
+            }
+        };
+    }
+
+    private static Operation operation(final String id, final String summary) {
+        return new Operation() {
+            @Override
+            public String summary() {
+                return summary;
+            }
+
+            @Override
+            public String description() {
+                return "";
+            }
+
+            @Override
+            public String operationId() {
+                return id;
+            }
+
+            @Override
+            public boolean deprecated() {
+                return false;
+            }
+
+            @Override
+            public boolean hidden() {
+                return false;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return Operation.class;
+            }
+        };
+    }
+}
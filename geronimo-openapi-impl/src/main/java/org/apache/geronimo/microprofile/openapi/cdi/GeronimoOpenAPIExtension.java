@@ -16,32 +16,60 @@
  */
 package org.apache.geronimo.microprofile.openapi.cdi;
 
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Comparator.comparing;
+import static java.util.Locale.ROOT;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
+import java.io.ByteArrayOutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import javax.annotation.Priority;
+import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.Annotated;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
 import javax.enterprise.inject.spi.AnnotatedMethod;
+import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.BeforeBeanDiscovery;
+import javax.enterprise.inject.spi.BeforeShutdown;
 import javax.enterprise.inject.spi.CDI;
 import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
 import javax.enterprise.inject.spi.ProcessBean;
+import javax.inject.Provider;
 import javax.servlet.ServletContext;
 import javax.ws.rs.Path;
 import javax.ws.rs.core.Application;
@@ -49,14 +77,20 @@ import javax.ws.rs.core.MediaType;
 
 import org.apache.geronimo.microprofile.openapi.config.GeronimoOpenAPIConfig;
 import org.apache.geronimo.microprofile.openapi.impl.filter.FilterImpl;
+import org.apache.geronimo.microprofile.openapi.impl.filter.SchemaDeduplicator;
 import org.apache.geronimo.microprofile.openapi.impl.loader.DefaultLoader;
-import org.apache.geronimo.microprofile.openapi.impl.loader.yaml.Yaml;
 import org.apache.geronimo.microprofile.openapi.impl.model.PathsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
+import org.apache.geronimo.microprofile.openapi.impl.model.copy.OpenAPICopier;
 import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedMethodElement;
 import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedTypeElement;
 import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessor;
+import org.apache.geronimo.microprofile.openapi.impl.processor.SchemaCache;
 import org.apache.geronimo.microprofile.openapi.impl.processor.spi.NamingStrategy;
 import org.apache.geronimo.microprofile.openapi.jaxrs.JacksonOpenAPIYamlBodyWriter;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIDocument;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIViews;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIYamlBodyWriter;
 import org.eclipse.microprofile.openapi.OASConfig;
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.OASModelReader;
@@ -66,35 +100,103 @@ public class GeronimoOpenAPIExtension implements Extension {
 
     private final Collection<Bean<?>> endpoints = new ArrayList<>();
 
-    private final Map<Application, OpenAPI> openapis = new HashMap<>();
+    private final Collection<Bean<?>> applications = new ArrayList<>();
+    private final Collection<Bean<?>> filters = new ArrayList<>();
+    private final Collection<Class<?>> viewFilters = new ArrayList<>();
+
+    // futures ensure a single build per application while keeping reads lock free
+    private final ConcurrentMap<Application, CompletableFuture<OpenAPIDocument>> openapis = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, Future<OpenAPIDocument>> eagerDocuments = new ConcurrentHashMap<>();
 
     private GeronimoOpenAPIConfig config;
-    private AnnotationProcessor processor;
+    private NamingStrategy namingStrategy;
+    private SchemaCache schemaCache;
     private boolean skipScan;
     private Collection<String> classes;
     private Collection<String> packages;
     private Collection<String> excludePackages;
     private Collection<String> excludeClasses;
     private boolean jacksonIsPresent;
+    private List<String> compressionEncodings;
+    private boolean eager;
+    private int parallelism;
+    private ExecutorService eagerExecutor;
+    private OpenAPIJsonWriter jsonWriter;
+    private boolean nativeYaml;
+    private boolean discoverFilters;
+    private int maxViews;
+    private boolean freeze;
+    private SchemaDeduplicator schemaDeduplicator;
 
     void init(@Observes final BeforeBeanDiscovery beforeBeanDiscovery) {
         config = GeronimoOpenAPIConfig.create();
-        processor = new AnnotationProcessor(config, loadNamingStrategy(config), null);
+        namingStrategy = loadNamingStrategy(config);
+        if (Boolean.parseBoolean(config.read("model.schema.deduplicate", "false"))) {
+            schemaDeduplicator = new SchemaDeduplicator(
+                    Boolean.parseBoolean(config.read("model.schema.deduplicate.hoist", "false")),
+                    Integer.parseInt(config.read("model.schema.deduplicate.hoist.threshold", "2").trim()));
+        }
+        // an OASFilter (or the deduplication which rewrites the schemas in place) can modify the schemas
+        // so they can't be shared between models then
+        if (Boolean.parseBoolean(config.read("model.schema.cache.shared", "true")) && config.read(OASConfig.FILTER, null) == null
+                && schemaDeduplicator == null) {
+            schemaCache = SchemaCache.forLoader(Thread.currentThread().getContextClassLoader());
+        }
         skipScan = Boolean.parseBoolean(config.read(OASConfig.SCAN_DISABLE, "false"));
         classes = getConfigCollection(OASConfig.SCAN_CLASSES);
         packages = getConfigCollection(OASConfig.SCAN_PACKAGES);
         excludePackages = getConfigCollection(OASConfig.SCAN_EXCLUDE_PACKAGES);
         excludeClasses = getConfigCollection(OASConfig.SCAN_EXCLUDE_CLASSES);
+        compressionEncodings = Stream.of(config.read("compression.encodings", "gzip").split(","))
+                .map(String::trim)
+                .map(it -> it.toLowerCase(ROOT))
+                .filter(it -> "gzip".equals(it) || "deflate".equals(it))
+                .distinct()
+                .collect(toList());
+        eager = Boolean.parseBoolean(config.read("application.eager", "false"));
+        parallelism = Integer.parseInt(config.read("model.build.parallelism", "1").trim());
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        jacksonIsPresent = isJacksonPresent();
+        // opt-in since the output differs from JSON-B (extensions of all the elements are written for instance)
+        if (Boolean.parseBoolean(config.read("serialization.json.native", "false"))) {
+            jsonWriter = new OpenAPIJsonWriter();
+        }
+        // jackson keeps serializing the YAML when it is there to not change the output of existing deployments
+        nativeYaml = Boolean.parseBoolean(config.read("serialization.yaml.native", Boolean.toString(!jacksonIsPresent)));
+        // opt-in, mp.openapi.filter is the portable way to register filters
+        discoverFilters = Boolean.parseBoolean(config.read("filter.discovery", "false"));
+        maxViews = Integer.parseInt(config.read("view.cache.size", "16").trim());
+        // off by default since getOrCreateOpenAPI(Application) returns a mutable model
+        freeze = Boolean.parseBoolean(config.read("model.freeze", "false"));
+    }
+
+    // only a classpath check, the mapper itself is created when first used
+    private boolean isJacksonPresent() {
+        final ClassLoader loader = GeronimoOpenAPIExtension.class.getClassLoader();
         try {
-            Yaml.getObjectMapper();
-            jacksonIsPresent = true;
-        } catch (final Error | RuntimeException e) {
-            // no-op
+            loader.loadClass("com.fasterxml.jackson.databind.ObjectMapper");
+            loader.loadClass("com.fasterxml.jackson.dataformat.yaml.YAMLFactory");
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
         }
     }
 
+    // ordered by preference, empty if compression is disabled
+    public List<String> getCompressionEncodings() {
+        return compressionEncodings;
+    }
+
+    // null when JSON must be rendered by the JAX-RS providers (JSON-B)
+    public OpenAPIJsonWriter getJsonWriter() {
+        return jsonWriter;
+    }
+
     public MediaType getDefaultMediaType() {
-        return jacksonIsPresent ? new MediaType("text", "vnd.yaml") : APPLICATION_JSON_TYPE;
+        return nativeYaml || jacksonIsPresent ? new MediaType("text", "vnd.yaml") : APPLICATION_JSON_TYPE;
     }
 
     private NamingStrategy loadNamingStrategy(final GeronimoOpenAPIConfig config) {
@@ -115,7 +217,13 @@ public class GeronimoOpenAPIExtension implements Extension {
     }
 
     void vetoJacksonIfNotHere(@Observes final ProcessAnnotatedType<JacksonOpenAPIYamlBodyWriter> event) {
-        if (!jacksonIsPresent) {
+        if (nativeYaml || !jacksonIsPresent) {
+            event.veto();
+        }
+    }
+
+    void vetoNativeYamlIfDisabled(@Observes final ProcessAnnotatedType<OpenAPIYamlBodyWriter> event) {
+        if (!nativeYaml) {
             event.veto();
         }
     }
@@ -127,27 +235,210 @@ public class GeronimoOpenAPIExtension implements Extension {
                 (packages == null || packages.stream().anyMatch(typeName::startsWith))) {
             endpoints.add(event.getBean());
         }
+        if (eager && Application.class.isAssignableFrom(event.getBean().getBeanClass())) {
+            applications.add(event.getBean());
+        }
+        if (discoverFilters && event.getBean().getTypes().contains(OASFilter.class)) {
+            filters.add(event.getBean());
+        }
+        if (discoverFilters && event.getBean().getTypes().contains(OpenAPIViews.class)) {
+            // filters injected in the views only apply to a view, not to the served model
+            event.getBean().getInjectionPoints().stream()
+                    .map(InjectionPoint::getType)
+                    .map(this::injectedFilterType)
+                    .filter(it -> it != null && it != OASFilter.class)
+                    .forEach(viewFilters::add);
+        }
+    }
+
+    // raw type of the filter injected directly or through an Instance/Provider, null if it is not a filter
+    private Class<?> injectedFilterType(final Type type) {
+        if (ParameterizedType.class.isInstance(type)) {
+            final ParameterizedType parameterizedType = ParameterizedType.class.cast(type);
+            if (Provider.class.isAssignableFrom(Class.class.cast(parameterizedType.getRawType()))) {
+                return injectedFilterType(parameterizedType.getActualTypeArguments()[0]);
+            }
+            return injectedFilterType(parameterizedType.getRawType());
+        }
+        if (Class.class.isInstance(type) && OASFilter.class.isAssignableFrom(Class.class.cast(type))) {
+            return Class.class.cast(type);
+        }
+        return null;
+    }
+
+    // filters applied on the served model, sorted by @Priority
+    List<Bean<?>> getDiscoveredFilters() {
+        return filters.stream()
+                .filter(bean -> viewFilters.stream().noneMatch(bean.getTypes()::contains))
+                .sorted(comparing((Bean<?> bean) -> ofNullable(bean.getBeanClass().getAnnotation(Priority.class))
+                        .map(Priority::value).orElse(Integer.MAX_VALUE))
+                        .thenComparing(bean -> bean.getBeanClass().getName()))
+                .collect(toList());
+    }
+
+    // builds the models in background to not let the first request pay it, requests only wait for the build to finish
+    void buildEagerly(@Observes final AfterDeploymentValidation afterDeploymentValidation, final BeanManager beanManager) {
+        buildEagerly(beanManager::createCreationalContext,
+                (bean, context) -> Application.class.cast(beanManager.getReference(bean, Application.class, context)));
+    }
+
+    void buildEagerly(final Function<Bean<?>, CreationalContext<?>> contexts,
+                      final BiFunction<Bean<?>, CreationalContext<?>, Application> references) {
+        if (!eager || applications.isEmpty()) {
+            return;
+        }
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        eagerExecutor = Executors.newSingleThreadExecutor(task -> {
+            final Thread thread = new Thread(task, "geronimo-openapi-eager-build");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(loader);
+            return thread;
+        });
+        applications.forEach(bean -> {
+            // the reference can be a client proxy which does not carry @ApplicationPath so use the bean class
+            final Class<?> type = unproxied(bean.getBeanClass());
+            final CreationalContext<?> context = contexts.apply(bean);
+            final Application application = references.apply(bean, context);
+            eagerDocuments.put(type, eagerExecutor.submit(() -> {
+                try {
+                    return createDocument(type, application);
+                } finally {
+                    context.release();
+                }
+            }));
+        });
+        eagerExecutor.shutdown();
+    }
+
+    void stopEagerBuild(@Observes final BeforeShutdown beforeShutdown) {
+        if (eagerExecutor != null) {
+            eagerExecutor.shutdownNow();
+        }
     }
 
     public OpenAPI getOrCreateOpenAPI(final Application application) {
+        return getOrCreateDocument(application).getModel();
+    }
+
+    public OpenAPIDocument getOrCreateDocument(final Application application) {
+        final CompletableFuture<OpenAPIDocument> existing = openapis.get(application);
+        if (existing != null) {
+            return await(existing);
+        }
+        final CompletableFuture<OpenAPIDocument> created = new CompletableFuture<>();
+        final CompletableFuture<OpenAPIDocument> concurrent = openapis.putIfAbsent(application, created);
+        if (concurrent != null) {
+            return await(concurrent);
+        }
+        build(application, created, true);
+        return await(created);
+    }
+
+    // applications which have a model built or being built
+    public Collection<Application> getApplications() {
+        return unmodifiableSet(openapis.keySet());
+    }
+
+    // next access will build the model again
+    public void invalidate(final Application application) {
+        openapis.remove(application);
+    }
+
+    // builds a new model, the previous one (if any) keeps being served until the new one is ready
+    public OpenAPIDocument rebuild(final Application application) {
+        final CompletableFuture<OpenAPIDocument> created = new CompletableFuture<>();
+        build(application, created, false);
+        final OpenAPIDocument document = await(created);
+        openapis.put(application, created);
+        return document;
+    }
+
+    private void build(final Application application, final CompletableFuture<OpenAPIDocument> result, final boolean registered) {
+        try {
+            final Future<OpenAPIDocument> eagerBuild = registered ? eagerDocuments.remove(unproxied(application.getClass())) : null;
+            result.complete(ofNullable(eagerBuild)
+                    .map(this::awaitEagerBuild)
+                    .orElseGet(() -> createDocument(unproxied(application.getClass()), application)));
+        } catch (final RuntimeException | Error e) {
+            if (registered) { // let next access retry
+                openapis.remove(application, result);
+            }
+            result.completeExceptionally(e);
+        }
+    }
+
+    private OpenAPIDocument await(final CompletableFuture<OpenAPIDocument> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ce) {
+            final Throwable cause = ce.getCause();
+            if (RuntimeException.class.isInstance(cause)) {
+                throw RuntimeException.class.cast(cause);
+            }
+            if (Error.class.isInstance(cause)) {
+                throw Error.class.cast(cause);
+            }
+            throw ce;
+        }
+    }
+
+    private OpenAPIDocument awaitEagerBuild(final Future<OpenAPIDocument> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException | CancellationException e) {
+            Logger.getLogger(GeronimoOpenAPIExtension.class.getName())
+                    .log(Level.WARNING, "Eager OpenAPI build failed, will build it again lazily", e);
+            return null;
+        }
+    }
+
+    private Class<?> unproxied(final Class<?> type) {
+        Class<?> current = type;
+        while (current.getName().contains("$$") && current.getSuperclass() != null && current.getSuperclass() != Object.class) {
+            current = current.getSuperclass();
+        }
+        return current;
+    }
+
+    // with geronimo.openapi.model.freeze the served model is an immutable snapshot (lighter, safe to render concurrently)
+    private OpenAPIDocument createDocument(final Class<?> type, final Application application) {
+        final OpenAPI built = createOpenApi(type, application);
+        final OpenAPI model = schemaDeduplicator == null ? built : schemaDeduplicator.deduplicate(built);
+        final OpenAPIDocument document = new OpenAPIDocument(freeze ? new OpenAPICopier().freeze(model) : model, maxViews);
+        if (jsonWriter != null) { // rendered and hashed with the build, the other types need the JAX-RS providers
+            document.getOrRender(APPLICATION_JSON_TYPE, it -> {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                jsonWriter.write(document.getModel(), out);
+                return out.toByteArray();
+            });
+        }
+        return document;
+    }
+
+    // model of an OpenAPIViews key, filters work on a copy to not alter the served model
+    public OpenAPI createView(final OpenAPI model, final List<OASFilter> viewFilters) {
+        return new FilterImpl(viewFilters).filter(new OpenAPICopier().copy(model));
+    }
+
+    private OpenAPI createOpenApi(final Class<?> type, final Application application) {
         if (classes != null) {
             final ClassLoader loader = Thread.currentThread().getContextClassLoader();
-            return openapis.computeIfAbsent(application,
-                    app -> createOpenApi(application.getClass(), classes.stream().map(c -> {
-                        try {
-                            return loader.loadClass(c);
-                        } catch (final ClassNotFoundException e) {
-                            throw new IllegalArgumentException(e);
-                        }
-                    })));
+            return createOpenApi(type, classes.stream().map(c -> {
+                try {
+                    return loader.loadClass(c);
+                } catch (final ClassNotFoundException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }));
         }
         if (packages == null && (!application.getSingletons().isEmpty() || !application.getClasses().isEmpty())) {
-            return openapis.computeIfAbsent(application,
-                    app -> createOpenApi(application.getClass(), Stream.concat(endpoints.stream().map(Bean::getBeanClass),
-                            Stream.concat(app.getClasses().stream(), app.getSingletons().stream().map(Object::getClass)))));
+            return createOpenApi(type, Stream.concat(endpoints.stream().map(Bean::getBeanClass),
+                    Stream.concat(application.getClasses().stream(), application.getSingletons().stream().map(Object::getClass))));
         }
-        return openapis.computeIfAbsent(application,
-                app -> createOpenApi(application.getClass(), endpoints.stream().map(Bean::getBeanClass)));
+        return createOpenApi(type, endpoints.stream().map(Bean::getBeanClass));
     }
 
     private Collection<String> getConfigCollection(final String key) {
@@ -156,7 +447,8 @@ public class GeronimoOpenAPIExtension implements Extension {
                 .orElse(null);
     }
 
-    private OpenAPI createOpenApi(final Class<?> application, final Stream<Class<?>> beans) {
+    // application is the unproxied class, its annotations (@ApplicationPath, @OpenAPIDefinition...) are read from it
+    protected OpenAPI createOpenApi(final Class<?> application, final Stream<Class<?>> beans) {
         final CDI<Object> current = CDI.current();
         final OpenAPI api = ofNullable(config.read(OASConfig.MODEL_READER, null))
                 .map(value -> newInstance(current, value))
@@ -164,6 +456,8 @@ public class GeronimoOpenAPIExtension implements Extension {
                 .orElseGet(() -> current.select(DefaultLoader.class).get().loadDefaultApi());
 
         final BeanManager beanManager = current.getBeanManager();
+        final AnnotationProcessor processor = new AnnotationProcessor(
+                config, namingStrategy, null, getDiscoveredFilters().isEmpty() ? schemaCache : null);
         processor.processApplication(api, new ElementImpl(beanManager.createAnnotatedType(application)));
         if (skipScan) {
             return api.paths(new PathsImpl());
@@ -179,16 +473,78 @@ public class GeronimoOpenAPIExtension implements Extension {
 
         final String base = contextPath + processor.getApplicationBinding(application);
         processor.beforeProcessing();
-        beans.filter(c -> (excludeClasses == null || !excludeClasses.contains(c.getName())))
+        final Stream<AnnotatedType<?>> types = beans
+                .filter(c -> (excludeClasses == null || !excludeClasses.contains(c.getName())))
                 .filter(c -> (excludePackages == null || excludePackages.stream().noneMatch(it -> c.getName().startsWith(it))))
-                .map(beanManager::createAnnotatedType)
-                .forEach(at -> processor.processClass(
-                        base, api, new ElementImpl(at), at.getMethods().stream().map(MethodElementImpl::new)));
-
-        return ofNullable(config.read(OASConfig.FILTER, null))
-                .map(it -> newInstance(current, it))
-                .map(i -> new FilterImpl(OASFilter.class.cast(i)).filter(api))
-                .orElse(api);
+                .map(beanManager::createAnnotatedType);
+        if (parallelism > 1) {
+            processClassesInParallel(processor, base, api, types.collect(toList()));
+        } else {
+            types.forEach(at -> processor.processClass(base, api, new ElementImpl(at), methods(at)));
+        }
+
+        return filter(current, beanManager, api);
+    }
+
+    // the contexts are released after the filtering to destroy the @Dependent filters
+    private OpenAPI filter(final CDI<Object> current, final BeanManager beanManager, final OpenAPI api) {
+        final Collection<CreationalContext<?>> contexts = new ArrayList<>();
+        try {
+            final List<OASFilter> filters = loadFilters(current, beanManager, contexts);
+            return filters.isEmpty() ? api : new FilterImpl(filters).filter(api);
+        } finally {
+            contexts.forEach(CreationalContext::release);
+        }
+    }
+
+    // configured filters in order then the discovered beans by @Priority, a configured bean is not applied twice
+    private List<OASFilter> loadFilters(final CDI<Object> current, final BeanManager beanManager,
+                                        final Collection<CreationalContext<?>> contexts) {
+        final List<String> configured = ofNullable(config.read(OASConfig.FILTER, null))
+                .map(it -> Stream.of(it.split(",")).map(String::trim).filter(v -> !v.isEmpty()).collect(toList()))
+                .orElseGet(ArrayList::new);
+        return Stream.concat(
+                configured.stream().map(it -> OASFilter.class.cast(newInstance(current, it))),
+                getDiscoveredFilters().stream()
+                        .filter(bean -> !configured.contains(bean.getBeanClass().getName()))
+                        .map(bean -> {
+                            final CreationalContext<?> context = beanManager.createCreationalContext(bean);
+                            contexts.add(context);
+                            return OASFilter.class.cast(beanManager.getReference(bean, OASFilter.class, context));
+                        }))
+                .collect(toList());
+    }
+
+    // classes are processed concurrently against a snapshot of the processor then merged in order,
+    // a class depending on what a previous one produced (same schema, path, operationId...) is processed again
+    // sequentially so the model is the same than the sequential one
+    private void processClassesInParallel(final AnnotationProcessor processor, final String base, final OpenAPI api,
+                                          final List<AnnotatedType<?>> types) {
+        final AnnotationProcessor.Fork fork = processor.fork(api);
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism, p -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("geronimo-openapi-build-" + thread.getPoolIndex());
+            thread.setContextClassLoader(loader);
+            return thread;
+        }, null, false);
+        try {
+            final List<ForkJoinTask<AnnotationProcessor.ForkedClass>> tasks = types.stream()
+                    .map(at -> pool.submit(() -> fork.processClass(base, new ElementImpl(at), methods(at))))
+                    .collect(toList());
+            for (int i = 0; i < tasks.size(); i++) {
+                if (!tasks.get(i).join().mergeInto(api)) {
+                    final AnnotatedType<?> at = types.get(i);
+                    processor.processClass(base, api, new ElementImpl(at), methods(at));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Stream<AnnotatedMethodElement> methods(final AnnotatedType<?> type) {
+        return type.getMethods().stream().map(MethodElementImpl::new);
     }
 
     private Object newInstance(final CDI<Object> current, final String value) {
@@ -26,7 +26,7 @@ import javax.enterprise.inject.spi.CDI;
 import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
 import org.apache.cxf.jaxrs.ext.JAXRSServerFactoryCustomizationExtension;
 import org.apache.geronimo.microprofile.openapi.cdi.GeronimoOpenAPIExtension;
-import org.apache.geronimo.microprofile.openapi.jaxrs.JacksonOpenAPIYamlBodyWriter;
+import org.apache.geronimo.microprofile.openapi.jaxrs.BaseOpenAPIYamlBodyWriter;
 import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIFilter;
 
 @Vetoed
@@ -42,7 +42,8 @@ public class CxfForceSetup implements JAXRSServerFactoryCustomizationExtension {
             if (current.select(GeronimoOpenAPIExtension.class).get().getDefaultMediaType().equals(APPLICATION_JSON_TYPE)) {
                 return;
             }
-            bean.setProvider(current.select(JacksonOpenAPIYamlBodyWriter.class).get());
+            // only one of the yaml writers is kept by the extension
+            bean.setProvider(current.select(BaseOpenAPIYamlBodyWriter.class).get());
         } catch (final NoClassDefFoundError | RuntimeException cne) {
             Logger.getLogger(CxfForceSetup.class.getName()).warning(cne.getMessage());
         }
@@ -16,172 +16,235 @@
  */
 package org.apache.geronimo.microprofile.openapi.impl.filter;
 
-import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.singletonList;
 
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
-import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
 import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 public class FilterImpl {
-    private final OASFilter delegate;
+    private final OASFilter[] delegates;
 
     public FilterImpl(final OASFilter delegate) {
-        this.delegate = delegate;
+        this(singletonList(delegate));
     }
 
-    // todo: likely complete it since the visitor pattern is not complete ATM
+    // filters are applied in order on each node during a single traversal
+    public FilterImpl(final List<OASFilter> delegates) {
+        this.delegates = delegates.toArray(new OASFilter[0]);
+    }
+
+    // depth first: children are filtered before their parent and filterOpenAPI is called last
     public OpenAPI filter(final OpenAPI api) {
-        ofNullable(api.getComponents()).ifPresent(this::filterComponents);
-        ofNullable(api.getPaths())
-                .ifPresent(paths -> paths.forEach((k, v) -> {
-                    ofNullable(v.readOperationsMap())
-                            .ifPresent(operations -> {
-                                operations.entrySet().stream()
-                                        .filter(it -> it.getValue() != null)
-                                        .filter(it -> delegate.filterOperation(it.getValue()) == null)
-                                        .map(Map.Entry::getKey)
-                                        .collect(toList())
-                                        .forEach(operations::remove);
-                                operations.values().stream().filter(Objects::nonNull).forEach(this::filterOperation);
-                            });
-
-                    paths.entrySet().stream()
-                            .filter(it -> delegate.filterPathItem(it.getValue()) == null)
-                            .map(Map.Entry::getKey)
-                            .collect(toList())
-                            .forEach(paths::remove);
-
-                    ofNullable(v.getParameters()).ifPresent(this::filterParameters);
-                    ofNullable(v.getServers()).ifPresent(this::filterServers);
-                }));
-        ofNullable(api.getServers()).ifPresent(this::filterServers);
-        ofNullable(api.getTags()).ifPresent(this::filterTags);
-        delegate.filterOpenAPI(api);
+        new Visitor(delegates).visitOpenAPI(api);
         return api;
     }
 
-    private void filterOperation(final Operation op) {
-        ofNullable(op.getServers()).ifPresent(this::filterServers);
-        ofNullable(op.getRequestBody()).ifPresent(it -> {
-            if (delegate.filterRequestBody(it) == null) {
-                op.requestBody(null);
+    private static final class Visitor {
+        private final OASFilter[] delegates;
+
+        // result of the hooks per node, shared (cached schemas) or cyclic nodes are filtered once
+        private final Map<Object, Object> filtered = new IdentityHashMap<>();
+
+        private Visitor(final OASFilter[] delegates) {
+            this.delegates = delegates;
+        }
+
+        private void visitOpenAPI(final OpenAPI api) {
+            final Components components = api.getComponents();
+            if (components != null) {
+                visitComponents(components);
             }
-        });
-        ofNullable(op.getParameters()).ifPresent(this::filterParameters);
-        ofNullable(op.getCallbacks()).ifPresent(this::filterCallbacks);
-        ofNullable(op.getResponses())
-                .ifPresent(responses -> {
-                    responses.forEach((rk, response) -> {
-                        ofNullable(response.getLinks()).ifPresent(this::filterLinks);
-                        ofNullable(response.getContent())
-                                .ifPresent(contents -> contents.values().forEach(content -> {
-                                    ofNullable(content.getSchema()).ifPresent(schema -> {
-                                        if (delegate.filterSchema(schema) == null) {
-                                            content.setSchema(null);
-                                        }
-                                    });
-                                }));
-                    responses.entrySet().stream()
-                            .filter(it -> delegate.filterAPIResponse(it.getValue()) == null)
-                            .map(Map.Entry::getKey)
-                            .collect(toList())
-                            .forEach(responses::remove);
-                    });
-                });
-    }
+            if (api.getPaths() != null) {
+                filterMap(api.getPaths(), this::visitPathItem, OASFilter::filterPathItem);
+            }
+            filterList(api.getServers(), null, OASFilter::filterServer);
+            filterList(api.getTags(), null, OASFilter::filterTag);
+            for (final OASFilter delegate : delegates) {
+                delegate.filterOpenAPI(api);
+            }
+        }
 
-    private void filterComponents(final  Components components) {
-        ofNullable(components.getCallbacks()).ifPresent(this::filterCallbacks);
-        ofNullable(components.getHeaders())
-                .ifPresent(headers ->
-                        headers.entrySet().stream()
-                                .filter(it -> delegate.filterHeader(it.getValue()) == null)
-                                .map(Map.Entry::getKey)
-                                .collect(toList())
-                                .forEach(headers::remove));
-        ofNullable(components.getLinks()).ifPresent(this::filterLinks);
-        ofNullable(components.getParameters())
-                .ifPresent(parameters ->
-                        parameters.entrySet().stream()
-                                .filter(it -> delegate.filterParameter(it.getValue()) == null)
-                                .map(Map.Entry::getKey)
-                                .collect(toList())
-                                .forEach(parameters::remove));
-        ofNullable(components.getRequestBodies())
-                .ifPresent(requestBodies ->
-                        requestBodies.entrySet().stream()
-                                .filter(it -> delegate.filterRequestBody(it.getValue()) == null)
-                                .map(Map.Entry::getKey)
-                                .collect(toList())
-                                .forEach(requestBodies::remove));
-        ofNullable(components.getResponses())
-                .ifPresent(responses ->
-                        responses.entrySet().stream()
-                                .filter(it -> delegate.filterAPIResponse(it.getValue()) == null)
-                                .map(Map.Entry::getKey)
-                                .collect(toList())
-                                .forEach(responses::remove));
-        ofNullable(components.getSchemas())
-                .ifPresent(schemas ->
-                        schemas.entrySet().stream()
-                                .filter(it -> delegate.filterSchema(it.getValue()) == null)
-                                .map(Map.Entry::getKey)
-                                .collect(toList())
-                                .forEach(schemas::remove));
-        ofNullable(components.getSecuritySchemes())
-                .ifPresent(schemes ->
-                        schemes.entrySet().stream()
-                                .filter(it -> delegate.filterSecurityScheme(it.getValue()) == null)
-                                .map(Map.Entry::getKey)
-                                .collect(toList())
-                                .forEach(schemes::remove));
-    }
+        private void visitComponents(final Components components) {
+            filterMap(components.getSchemas(), this::visitSchema, OASFilter::filterSchema);
+            filterMap(components.getResponses(), this::visitAPIResponse, OASFilter::filterAPIResponse);
+            filterMap(components.getParameters(), this::visitParameter, OASFilter::filterParameter);
+            filterMap(components.getRequestBodies(), this::visitRequestBody, OASFilter::filterRequestBody);
+            filterMap(components.getHeaders(), this::visitHeader, OASFilter::filterHeader);
+            filterMap(components.getSecuritySchemes(), null, OASFilter::filterSecurityScheme);
+            filterMap(components.getLinks(), this::visitLink, OASFilter::filterLink);
+            filterMap(components.getCallbacks(), this::visitCallback, OASFilter::filterCallback);
+        }
 
-    private void filterLinks(final Map<String, Link> links) {
-        links.entrySet().stream()
-                .filter(it -> delegate.filterLink(it.getValue()) == null)
-                .map(Map.Entry::getKey)
-                .collect(toList())
-                .forEach(links::remove);
-    }
+        private void visitPathItem(final PathItem item) {
+            filterValue(item.getGET(), item::setGET, this::visitOperation, OASFilter::filterOperation);
+            filterValue(item.getPUT(), item::setPUT, this::visitOperation, OASFilter::filterOperation);
+            filterValue(item.getPOST(), item::setPOST, this::visitOperation, OASFilter::filterOperation);
+            filterValue(item.getDELETE(), item::setDELETE, this::visitOperation, OASFilter::filterOperation);
+            filterValue(item.getOPTIONS(), item::setOPTIONS, this::visitOperation, OASFilter::filterOperation);
+            filterValue(item.getHEAD(), item::setHEAD, this::visitOperation, OASFilter::filterOperation);
+            filterValue(item.getPATCH(), item::setPATCH, this::visitOperation, OASFilter::filterOperation);
+            filterValue(item.getTRACE(), item::setTRACE, this::visitOperation, OASFilter::filterOperation);
+            filterList(item.getParameters(), this::visitParameter, OASFilter::filterParameter);
+            filterList(item.getServers(), null, OASFilter::filterServer);
+        }
 
-    private void filterCallbacks(final Map<String, Callback> callbacks) {
-        callbacks.entrySet().stream()
-                .filter(it -> delegate.filterCallback(it.getValue()) == null)
-                .map(Map.Entry::getKey)
-                .collect(toList())
-                .forEach(callbacks::remove);
-    }
+        private void visitOperation(final Operation operation) {
+            filterList(operation.getParameters(), this::visitParameter, OASFilter::filterParameter);
+            filterValue(operation.getRequestBody(), operation::setRequestBody, this::visitRequestBody, OASFilter::filterRequestBody);
+            if (operation.getResponses() != null) {
+                filterMap(operation.getResponses(), this::visitAPIResponse, OASFilter::filterAPIResponse);
+            }
+            filterMap(operation.getCallbacks(), this::visitCallback, OASFilter::filterCallback);
+            filterList(operation.getServers(), null, OASFilter::filterServer);
+        }
 
-    private void filterTags(final List<Tag> tags) {
-        tags.stream()
-                .filter(it -> delegate.filterTag(it) == null)
-                .collect(toList())
-                .forEach(tags::remove);
-    }
+        private void visitCallback(final Callback callback) {
+            filterMap(callback, this::visitPathItem, OASFilter::filterPathItem);
+        }
 
-    private void filterParameters(final List<Parameter> parameters) {
-        parameters.stream()
-                .filter(it -> delegate.filterParameter(it) == null)
-                .collect(toList())
-                .forEach(parameters::remove);
-    }
+        private void visitParameter(final Parameter parameter) {
+            filterValue(parameter.getSchema(), parameter::setSchema, this::visitSchema, OASFilter::filterSchema);
+            visitContent(parameter.getContent());
+        }
+
+        private void visitRequestBody(final RequestBody body) {
+            visitContent(body.getContent());
+        }
+
+        private void visitAPIResponse(final APIResponse response) {
+            filterMap(response.getHeaders(), this::visitHeader, OASFilter::filterHeader);
+            visitContent(response.getContent());
+            filterMap(response.getLinks(), this::visitLink, OASFilter::filterLink);
+        }
+
+        private void visitHeader(final Header header) {
+            filterValue(header.getSchema(), header::setSchema, this::visitSchema, OASFilter::filterSchema);
+            visitContent(header.getContent());
+        }
 
-    private void filterServers(final List<Server> servers) {
-        servers.stream()
-                .filter(it -> delegate.filterServer(it) == null)
-                .collect(toList())
-                .forEach(servers::remove);
+        private void visitLink(final Link link) {
+            filterValue(link.getServer(), link::setServer, null, OASFilter::filterServer);
+        }
+
+        private void visitContent(final Content content) {
+            if (content == null) {
+                return;
+            }
+            for (final MediaType mediaType : content.values()) {
+                if (mediaType == null) {
+                    continue;
+                }
+                filterValue(mediaType.getSchema(), mediaType::setSchema, this::visitSchema, OASFilter::filterSchema);
+                if (mediaType.getEncoding() != null) {
+                    for (final Encoding encoding : mediaType.getEncoding().values()) {
+                        if (encoding != null) {
+                            filterMap(encoding.getHeaders(), this::visitHeader, OASFilter::filterHeader);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void visitSchema(final Schema schema) {
+            filterMap(schema.getProperties(), this::visitSchema, OASFilter::filterSchema);
+            filterValue(schema.getItems(), schema::setItems, this::visitSchema, OASFilter::filterSchema);
+            filterValue(schema.getAdditionalPropertiesSchema(), schema::setAdditionalPropertiesSchema,
+                    this::visitSchema, OASFilter::filterSchema);
+            filterValue(schema.getNot(), schema::setNot, this::visitSchema, OASFilter::filterSchema);
+            filterList(schema.getAllOf(), this::visitSchema, OASFilter::filterSchema);
+            filterList(schema.getAnyOf(), this::visitSchema, OASFilter::filterSchema);
+            filterList(schema.getOneOf(), this::visitSchema, OASFilter::filterSchema);
+        }
+
+        private <T> void filterValue(final T value, final Consumer<T> setter,
+                                     final Consumer<T> visitor, final BiFunction<OASFilter, T, T> hook) {
+            if (value == null) {
+                return;
+            }
+            final T result = filter(value, visitor, hook);
+            if (result != value) {
+                setter.accept(result);
+            }
+        }
+
+        private <T> void filterList(final List<T> values, final Consumer<T> visitor, final BiFunction<OASFilter, T, T> hook) {
+            if (values == null) {
+                return;
+            }
+            final ListIterator<T> iterator = values.listIterator();
+            while (iterator.hasNext()) {
+                final T value = iterator.next();
+                if (value == null) {
+                    continue;
+                }
+                final T result = filter(value, visitor, hook);
+                if (result == null) {
+                    iterator.remove();
+                } else if (result != value) {
+                    iterator.set(result);
+                }
+            }
+        }
+
+        private <T> void filterMap(final Map<String, T> values, final Consumer<T> visitor, final BiFunction<OASFilter, T, T> hook) {
+            if (values == null) {
+                return;
+            }
+            final Iterator<Map.Entry<String, T>> iterator = values.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<String, T> entry = iterator.next();
+                final T value = entry.getValue();
+                if (value == null) {
+                    continue;
+                }
+                final T result = filter(value, visitor, hook);
+                if (result == null) {
+                    iterator.remove();
+                } else if (result != value) {
+                    entry.setValue(result);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T filter(final T value, final Consumer<T> visitor, final BiFunction<OASFilter, T, T> hook) {
+            if (filtered.containsKey(value)) {
+                return (T) filtered.get(value);
+            }
+            filtered.put(value, value); // in progress, a cycle keeps the node as it is
+            if (visitor != null) {
+                visitor.accept(value);
+            }
+            T result = value;
+            for (int i = 0; i < delegates.length && result != null; i++) {
+                result = hook.apply(delegates[i], result);
+            }
+            filtered.put(value, result);
+            return result;
+        }
     }
 }
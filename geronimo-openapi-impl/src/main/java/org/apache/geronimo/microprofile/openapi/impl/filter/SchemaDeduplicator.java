@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.filter;
+
+import static java.util.Arrays.asList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Hash-consing of the schemas of a built model: structurally equal schemas (same attributes in the same order
+ * and same children) end up being the same instance so the model retains only one of them.
+ * Optionally the complex ones (with properties or a composition) found at several places are moved
+ * to {@code components/schemas} and replaced by a {@code $ref}, which also shrinks the serialized document.
+ * <p>
+ * It mutates the model in place (see {@link FilterImpl}, children are deduplicated before their parent),
+ * once shared a schema must not be modified for a single use site anymore. The model must not reference schemas
+ * shared with other models either (the extension disables its shared schema cache when the deduplication is enabled).
+ */
+public class SchemaDeduplicator {
+    private static final Pattern COMPONENT_NAME = Pattern.compile("[a-zA-Z0-9._-]+");
+
+    private final boolean hoist;
+    private final int hoistThreshold;
+
+    public SchemaDeduplicator() {
+        this(false, 2);
+    }
+
+    public SchemaDeduplicator(final boolean hoist, final int hoistThreshold) {
+        this.hoist = hoist;
+        this.hoistThreshold = hoistThreshold;
+    }
+
+    public OpenAPI deduplicate(final OpenAPI api) {
+        final Canonicalizer canonicalizer = new Canonicalizer();
+        new FilterImpl(canonicalizer).filter(api);
+        if (hoist) {
+            hoist(api, canonicalizer);
+        }
+        return api;
+    }
+
+    private void hoist(final OpenAPI api, final Canonicalizer canonicalizer) {
+        final Components components = api.getComponents() == null ? new ComponentsImpl() : api.getComponents();
+        final Map<String, Schema> existing = components.getSchemas() == null ? Collections.emptyMap() : components.getSchemas();
+        final Set<Schema> declared = Collections.newSetFromMap(new IdentityHashMap<>());
+        declared.addAll(existing.values());
+        final Set<String> names = new HashSet<>(existing.keySet());
+
+        final Map<Schema, Schema> refs = new IdentityHashMap<>();
+        final Map<String, Schema> hoisted = new LinkedHashMap<>();
+        int index = 1;
+        for (final Schema schema : canonicalizer.order) { // first seen first, names are stable between builds
+            if (canonicalizer.uses.get(schema) < hoistThreshold || declared.contains(schema) || !isComplex(schema)) {
+                continue;
+            }
+            final String title = schema.getTitle();
+            final String name;
+            if (title != null && COMPONENT_NAME.matcher(title).matches() && names.add(title)) {
+                name = title;
+            } else {
+                while (!names.add("InlineSchema" + index)) {
+                    index++;
+                }
+                name = "InlineSchema" + index;
+            }
+            hoisted.put(name, schema);
+            refs.put(schema, new SchemaImpl().ref(name));
+        }
+        if (hoisted.isEmpty()) {
+            return;
+        }
+
+        new FilterImpl(new OASFilter() {
+            @Override
+            public Schema filterSchema(final Schema schema) {
+                return refs.getOrDefault(schema, schema);
+            }
+        }).filter(api);
+        if (api.getComponents() == null) {
+            api.setComponents(components);
+        }
+        hoisted.forEach(components::addSchema);
+    }
+
+    private boolean isComplex(final Schema schema) {
+        return schema.getRef() == null && (notEmpty(schema.getProperties()) || notEmpty(schema.getAllOf())
+                || notEmpty(schema.getAnyOf()) || notEmpty(schema.getOneOf()));
+    }
+
+    private boolean notEmpty(final Object value) {
+        return value != null && !(Map.class.isInstance(value) ? Map.class.cast(value).isEmpty() : List.class.cast(value).isEmpty());
+    }
+
+    private static final class Canonicalizer implements OASFilter {
+        private final Map<Key, Schema> canonicals = new HashMap<>();
+        private final Map<Schema, Integer> uses = new IdentityHashMap<>();
+        private final List<Schema> order = new ArrayList<>();
+
+        @Override
+        public Schema filterSchema(final Schema schema) {
+            final Schema canonical = canonicals.computeIfAbsent(new Key(schema), k -> {
+                order.add(schema);
+                return schema;
+            });
+            uses.merge(canonical, 1, Integer::sum);
+            return canonical;
+        }
+    }
+
+    // children schemas are compared by identity since they are already deduplicated when the parent is visited
+    private static final class Key {
+        private final Object[] values;
+        private final int hash;
+
+        private Key(final Schema schema) {
+            values = new Object[] {
+                    schema.getRef(), schema.getType(), schema.getFormat(), schema.getTitle(), schema.getDescription(),
+                    value(schema.getDefaultValue()), value(schema.getEnumeration()), schema.getMultipleOf(),
+                    schema.getMaximum(), schema.getExclusiveMaximum(), schema.getMinimum(), schema.getExclusiveMinimum(),
+                    schema.getMaxLength(), schema.getMinLength(), schema.getPattern(), schema.getMaxItems(),
+                    schema.getMinItems(), schema.getUniqueItems(), schema.getMaxProperties(), schema.getMinProperties(),
+                    schema.getRequired(), schema.getNullable(), schema.getReadOnly(), schema.getWriteOnly(),
+                    schema.getDeprecated(), schema.getDiscriminator(), schema.getXml(), schema.getExternalDocs(),
+                    value(schema.getExample()), same(schema.getItems()), same(schema.getAllOf()),
+                    same(schema.getOneOf()), same(schema.getAnyOf()), same(schema.getNot()),
+                    same(schema.getProperties()), same(schema.getAdditionalProperties()), value(schema.getExtensions())
+            };
+            hash = Arrays.hashCode(values);
+        }
+
+        // maps are compared with their order since it is the serialization one
+        private static Object value(final Object value) {
+            if (Map.class.isInstance(value)) {
+                final List<Object> entries = new ArrayList<>();
+                ((Map<?, ?>) value).forEach((k, v) -> entries.addAll(asList(k, value(v))));
+                return entries;
+            }
+            if (List.class.isInstance(value)) {
+                final List<Object> items = new ArrayList<>();
+                ((List<?>) value).forEach(it -> items.add(value(it)));
+                return items;
+            }
+            return value;
+        }
+
+        private static Object same(final Object value) {
+            if (Schema.class.isInstance(value)) {
+                return new Identity(value);
+            }
+            if (Map.class.isInstance(value)) {
+                final List<Object> entries = new ArrayList<>();
+                ((Map<?, ?>) value).forEach((k, v) -> entries.addAll(asList(k, same(v))));
+                return entries;
+            }
+            if (List.class.isInstance(value)) {
+                final List<Object> items = new ArrayList<>();
+                ((List<?>) value).forEach(it -> items.add(same(it)));
+                return items;
+            }
+            return value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o || (Key.class.isInstance(o) && hash == Key.class.cast(o).hash
+                    && Arrays.equals(values, Key.class.cast(o).values));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Identity {
+        private final Object value;
+
+        private Identity(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return Identity.class.isInstance(o) && Identity.class.cast(o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.loader.yaml;
+
+import java.io.IOException;
+import java.util.Map;
+
+import javax.enterprise.inject.Vetoed;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+// streams a JSON-P tree to jackson without going through a string and a reparsing
+@Vetoed
+final class JsonValueWriter {
+    private JsonValueWriter() {
+        // no-op
+    }
+
+    static void write(final JsonValue value, final JsonGenerator gen) throws IOException {
+        switch (value.getValueType()) {
+            case NULL:
+                gen.writeNull();
+                break;
+            case TRUE:
+                gen.writeBoolean(true);
+                break;
+            case FALSE:
+                gen.writeBoolean(false);
+                break;
+            case STRING:
+                gen.writeString(JsonString.class.cast(value).getString());
+                break;
+            case NUMBER:
+                writeNumber(JsonNumber.class.cast(value), gen);
+                break;
+            case ARRAY:
+                gen.writeStartArray();
+                for (final JsonValue item : JsonArray.class.cast(value)) {
+                    write(item, gen);
+                }
+                gen.writeEndArray();
+                break;
+            case OBJECT:
+                gen.writeStartObject();
+                for (final Map.Entry<String, JsonValue> entry : JsonObject.class.cast(value).entrySet()) {
+                    gen.writeFieldName(entry.getKey());
+                    write(entry.getValue(), gen);
+                }
+                gen.writeEndObject();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported json value: " + value);
+        }
+    }
+
+    // no double conversion to keep big integers and the scale of decimals (1.0 stays 1.0)
+    static void writeNumber(final JsonNumber value, final JsonGenerator gen) throws IOException {
+        if (value.isIntegral()) {
+            gen.writeNumber(value.bigIntegerValue());
+        } else {
+            gen.writeNumber(value.bigDecimalValue());
+        }
+    }
+}
@@ -37,6 +37,8 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyName;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -49,6 +51,7 @@ import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 import com.fasterxml.jackson.databind.ser.std.StringSerializer;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.apache.geronimo.microprofile.openapi.impl.loader.ApiBindings;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.headers.Header;
 import org.eclipse.microprofile.openapi.models.media.Encoding;
@@ -58,21 +61,38 @@ import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
 @Vetoed
 public final class Yaml {
+    // configured once, mappers are thread safe and keep their serializer caches warm this way
+    private static final ObjectMapper MAPPER = newObjectMapper();
+    private static final ObjectReader API_READER = MAPPER.readerFor(OpenAPI.class);
+    private static final ObjectWriter API_WRITER = MAPPER.writerFor(OpenAPIImpl.class);
+
     private Yaml() {
         // no-op
     }
 
     public static OpenAPI loadAPI(final InputStream stream) {
         try {
-            final ObjectMapper mapper = getObjectMapper();
-            return mapper.readValue(stream, OpenAPI.class);
+            return API_READER.readValue(stream);
         } catch (final IOException e) {
             throw new IllegalArgumentException(e);
         }
     }
 
-    // let be reusable in integrations
+    // shared instance, don't reconfigure it - use newObjectMapper() for that
     public static ObjectMapper getObjectMapper() {
+        return MAPPER;
+    }
+
+    public static ObjectReader getOpenAPIReader() {
+        return API_READER;
+    }
+
+    public static ObjectWriter getOpenAPIWriter() {
+        return API_WRITER;
+    }
+
+    // let be reusable in integrations
+    public static ObjectMapper newObjectMapper() {
         final SimpleAbstractTypeResolver resolver = new SimpleAbstractTypeResolver();
         ApiBindings.get().forEach((k, v) -> resolver.addMapping(Class.class.cast(k), v));
 
@@ -134,30 +154,13 @@ public final class Yaml {
         module.addSerializer(JsonNumber.class, new StdScalarSerializer<JsonNumber>(JsonNumber.class) {
             @Override
             public void serialize(final JsonNumber value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
-                final double v = value.doubleValue();
-                if (v == value.intValue()) {
-                    gen.writeNumber(value.intValue());
-                } else if (v == value.longValue()) {
-                    gen.writeNumber(value.longValue());
-                } else {
-                    gen.writeNumber(v);
-                }
+                JsonValueWriter.writeNumber(value, gen);
             }
         });
         module.addSerializer(JsonValue.class, new StdScalarSerializer<JsonValue>(JsonValue.class) {
             @Override
             public void serialize(final JsonValue value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
-                switch (value.getValueType()) {
-                    case TRUE:
-                    case FALSE:
-                        gen.writeBoolean(value.equals(JsonValue.TRUE));
-                        break;
-                    case ARRAY:
-                    case OBJECT:
-                        gen.writeTree(new ObjectMapper().readTree(value.toString())); // not elegant but is it that common?
-                        break;
-                    default:
-                }
+                JsonValueWriter.write(value, gen);
             }
         });
         Stream.of(SecurityScheme.Type.class, SecurityScheme.In.class,
@@ -15,8 +15,211 @@
  */
 package org.apache.geronimo.microprofile.openapi.impl.model;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-public class APIMap<A, B> extends LinkedHashMap<A, B> {
+// insertion ordered map which can share its entries with copies (see share()),
+// the first write on a shared map copies the entries so the other maps don't see it
+public class APIMap<A, B> extends AbstractMap<A, B> {
+    private Map<A, B> delegate;
+    private boolean shared;
+    private boolean frozen;
+    private Set<Entry<A, B>> entrySet;
 
+    public APIMap() {
+        delegate = new LinkedHashMap<>();
+    }
+
+    public APIMap(final APIMap<A, B> source) {
+        share(source);
+    }
+
+    // replaces the entries of this map by the ones of source without copying them
+    public void share(final APIMap<A, B> source) {
+        checkMutable();
+        delegate = source.delegate;
+        shared = true;
+        if (!source.frozen) { // a frozen map never writes, don't touch it since it can be read concurrently
+            source.shared = true;
+        }
+    }
+
+    // moves the entries to a compact immutable map, any later mutation fails
+    public void freeze() {
+        if (!frozen) {
+            delegate = new FrozenMap<>(delegate);
+            shared = false;
+            frozen = true;
+        }
+    }
+
+    protected void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is frozen");
+        }
+    }
+
+    private Map<A, B> writable() {
+        checkMutable();
+        if (shared) {
+            delegate = new LinkedHashMap<>(delegate);
+            shared = false;
+        }
+        return delegate;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public B get(final Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public B getOrDefault(final Object key, final B defaultValue) {
+        return delegate.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super A, ? super B> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public B put(final A key, final B value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public void putAll(final Map<? extends A, ? extends B> values) {
+        writable().putAll(values);
+    }
+
+    @Override
+    public B putIfAbsent(final A key, final B value) {
+        return writable().putIfAbsent(key, value);
+    }
+
+    @Override
+    public B computeIfAbsent(final A key, final Function<? super A, ? extends B> mappingFunction) {
+        return writable().computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public void replaceAll(final BiFunction<? super A, ? super B, ? extends B> function) {
+        writable().replaceAll(function);
+    }
+
+    @Override
+    public B remove(final Object key) {
+        checkMutable();
+        return delegate.containsKey(key) ? writable().remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+        checkMutable();
+        if (shared) {
+            delegate = new LinkedHashMap<>();
+            shared = false;
+        } else {
+            delegate.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<A, B>> entrySet() {
+        return entrySet == null ? (entrySet = new EntrySet()) : entrySet;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<A, B>> {
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return delegate.entrySet().contains(o);
+        }
+
+        @Override
+        public Iterator<Entry<A, B>> iterator() {
+            return shared ? new SharedEntryIterator() : delegate.entrySet().iterator();
+        }
+
+        @Override
+        public void clear() {
+            APIMap.this.clear();
+        }
+    }
+
+    // iterates the shared entries, a write goes to the entries owned by the map once copied
+    private class SharedEntryIterator implements Iterator<Entry<A, B>> {
+        private Map<A, B> iterated = delegate;
+        private Iterator<Entry<A, B>> iterator = iterated.entrySet().iterator();
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Entry<A, B> next() {
+            final Entry<A, B> next = iterator.next();
+            index++;
+            return new SharedEntry(next.getKey(), next.getValue());
+        }
+
+        @Override
+        public void remove() {
+            if (iterated != writable()) { // entries were just copied, move to the same position in the copy
+                iterated = delegate;
+                iterator = iterated.entrySet().iterator();
+                for (int i = 0; i < index; i++) {
+                    iterator.next();
+                }
+            }
+            iterator.remove();
+            index--;
+        }
+    }
+
+    private class SharedEntry extends SimpleEntry<A, B> {
+        private SharedEntry(final A key, final B value) {
+            super(key, value);
+        }
+
+        @Override
+        public B setValue(final B value) {
+            writable().put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
 }
@@ -24,16 +24,15 @@ import javax.json.bind.annotation.JsonbTransient;
 import javax.json.bind.annotation.JsonbTypeDeserializer;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Deserializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.headers.Header;
 import org.eclipse.microprofile.openapi.models.links.Link;
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 
 @Vetoed
-public class APIResponseImpl implements APIResponse {
+public class APIResponseImpl extends ConstructibleImpl implements APIResponse {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Content _content;
 
@@ -48,33 +47,40 @@ public class APIResponseImpl implements APIResponse {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public APIResponse addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeHeader(final String name) {
+        checkMutable();
         _headers.remove(name);
     }
 
     @Override
     public void removeLink(final String name) {
+        checkMutable();
         _links.remove(name);
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -84,6 +90,7 @@ public class APIResponseImpl implements APIResponse {
 
     @Override
     public void setContent(final Content _content) {
+        checkMutable();
         this._content = _content;
     }
 
@@ -100,6 +107,7 @@ public class APIResponseImpl implements APIResponse {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -117,6 +125,7 @@ public class APIResponseImpl implements APIResponse {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapHeadersDeserializer.class)
     public void setHeaders(final Map<String, Header> _headers) {
+        checkMutable();
         this._headers = _headers;
     }
 
@@ -128,6 +137,7 @@ public class APIResponseImpl implements APIResponse {
 
     @Override
     public APIResponse addHeader(final String key, final Header _headers) {
+        checkMutable();
         if (_headers != null) {
             (this._headers = this._headers == null ? new LinkedHashMap<>() : this._headers).put(key, _headers);
         }
@@ -142,6 +152,7 @@ public class APIResponseImpl implements APIResponse {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapLinksDeserializer.class)
     public void setLinks(final Map<String, Link> _links) {
+        checkMutable();
         this._links = _links;
     }
 
@@ -153,6 +164,7 @@ public class APIResponseImpl implements APIResponse {
 
     @Override
     public APIResponse addLink(final String key, final Link _links) {
+        checkMutable();
         if (_links != null) {
             (this._links = this._links == null ? new LinkedHashMap<>() : this._links).put(key, _links);
         }
@@ -166,6 +178,7 @@ public class APIResponseImpl implements APIResponse {
 
     @Override
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/responses/" + _ref);
     }
 
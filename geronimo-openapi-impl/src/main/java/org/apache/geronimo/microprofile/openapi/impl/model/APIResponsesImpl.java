@@ -16,19 +16,17 @@
  */
 package org.apache.geronimo.microprofile.openapi.impl.model;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 
 @Vetoed
 public class APIResponsesImpl extends APIMap<String, APIResponse> implements APIResponses {
-    private Extensible<APIResponse> _extensible = new ExtensibleImpl<>();
+    private Map<String, Object> _extensions;
 
     public APIResponses addAPIResponse(final String name, final APIResponse item) {
         return addApiResponse(name, item);
@@ -41,7 +39,7 @@ public class APIResponsesImpl extends APIMap<String, APIResponse> implements API
 
     @Override
     public Map<String, APIResponse> getAPIResponses() {
-        return new LinkedHashMap<>(this);
+        return new APIMap<>(this);
     }
 
     @Override
@@ -87,22 +85,27 @@ public class APIResponsesImpl extends APIMap<String, APIResponse> implements API
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public APIResponses addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 }
@@ -16,43 +16,46 @@
  */
 package org.apache.geronimo.microprofile.openapi.impl.model;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 
 @Vetoed
 public class CallbackImpl extends APIMap<String, PathItem> implements Callback {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _ref;
 
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Callback addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -70,7 +73,7 @@ public class CallbackImpl extends APIMap<String, PathItem> implements Callback {
 
     @Override
     public Map<String, PathItem> getPathItems() {
-        return new LinkedHashMap<>(this);
+        return new APIMap<>(this);
     }
 
     @Override
@@ -86,6 +89,7 @@ public class CallbackImpl extends APIMap<String, PathItem> implements Callback {
 
     @Override
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/callbacks/" + _ref);
     }
 
@@ -0,0 +1,939 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.inject.Vetoed;
+import javax.json.bind.annotation.JsonbProperty;
+import javax.json.bind.annotation.JsonbTransient;
+import javax.json.bind.annotation.JsonbTypeAdapter;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.Serializers;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+
+/**
+ * Same schema as {@link SchemaImpl} but with a layout for big documents: most schemas only set 2 or 3
+ * of the 35 attributes so instead of one field per attribute it keeps a bitset of the present ones,
+ * the booleans, type and integer constraints are packed in primitives and the other attributes
+ * live in an array only sized for the present ones.
+ * Writes cost an array copy when an attribute appears or disappears, it is intended for models
+ * built once and read a lot (frozen snapshots typically).
+ */
+@Vetoed
+public class CompactSchemaImpl extends ConstructibleImpl implements Schema {
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final int[] NO_INTS = new int[0];
+    private static final SchemaType[] TYPES = SchemaType.values();
+
+    // reference slots, bit n of _mask tells if it is set and _values only holds the set ones in slot order
+    private static final int EXTENSIONS = 0;
+    private static final int ADDITIONAL_PROPERTIES = 1;
+    private static final int ALL_OF = 2;
+    private static final int ANY_OF = 3;
+    private static final int DEFAULT_VALUE = 4;
+    private static final int DESCRIPTION = 5;
+    private static final int DISCRIMINATOR = 6;
+    private static final int ENUMERATION = 7;
+    private static final int EXAMPLE = 8;
+    private static final int EXTERNAL_DOCS = 9;
+    private static final int FORMAT = 10;
+    private static final int ITEMS = 11;
+    private static final int MAXIMUM = 12;
+    private static final int MINIMUM = 13;
+    private static final int MULTIPLE_OF = 14;
+    private static final int NOT = 15;
+    private static final int ONE_OF = 16;
+    private static final int PATTERN = 17;
+    private static final int PROPERTIES = 18;
+    private static final int REF = 19;
+    private static final int REQUIRED = 20;
+    private static final int TITLE = 21;
+    private static final int XML = 22;
+
+    // boolean slots, bit n of _flags tells if it is set and bit n + 8 is the value
+    private static final int DEPRECATED = 0;
+    private static final int EXCLUSIVE_MAXIMUM = 1;
+    private static final int EXCLUSIVE_MINIMUM = 2;
+    private static final int NULLABLE = 3;
+    private static final int READ_ONLY = 4;
+    private static final int UNIQUE_ITEMS = 5;
+    private static final int WRITE_ONLY = 6;
+    private static final int BOOLEAN_VALUE_SHIFT = 8;
+
+    // bits 16 to 19 of _flags are the type ordinal + 1, 0 meaning no type
+    private static final int TYPE_SHIFT = 16;
+    private static final int TYPE_MASK = 0xF;
+
+    // int slots, bit n + 24 of _flags tells if it is set and _ints only holds the set ones in slot order
+    private static final int MAX_ITEMS = 0;
+    private static final int MAX_LENGTH = 1;
+    private static final int MAX_PROPERTIES = 2;
+    private static final int MIN_ITEMS = 3;
+    private static final int MIN_LENGTH = 4;
+    private static final int MIN_PROPERTIES = 5;
+    private static final int INT_SHIFT = 24;
+
+    private int _flags;
+
+    private int _mask;
+
+    private Object[] _values = NO_VALUES;
+
+    private int[] _ints = NO_INTS;
+
+    @Override
+    @JsonbTransient
+    public Map<String, Object> getExtensions() {
+        return value(EXTENSIONS);
+    }
+
+    @Override
+    public void setExtensions(final Map<String, Object> extensions) {
+        value(EXTENSIONS, extensions);
+    }
+
+    @Override
+    public Schema addExtension(final String name, final Object value) {
+        checkMutable();
+        value(EXTENSIONS, ExtensibleImpl.putExtension(value(EXTENSIONS), name, value));
+        return this;
+    }
+
+    @Override
+    public void removeExtension(final String name) {
+        checkMutable();
+        final Map<String, Object> extensions = value(EXTENSIONS);
+        if (extensions != null) {
+            extensions.remove(name);
+        }
+    }
+
+    @Override
+    public Object getAdditionalProperties() {
+        return value(ADDITIONAL_PROPERTIES);
+    }
+
+    @Override
+    @JsonbTransient
+    public Schema getAdditionalPropertiesSchema() {
+        final Object additionalProperties = value(ADDITIONAL_PROPERTIES);
+        return Schema.class.isInstance(additionalProperties) ? Schema.class.cast(additionalProperties) : null;
+    }
+
+    @Override
+    @JsonbTransient
+    public Boolean getAdditionalPropertiesBoolean() {
+        final Object additionalProperties = value(ADDITIONAL_PROPERTIES);
+        return Boolean.class.isInstance(additionalProperties) ? Boolean.class.cast(additionalProperties) : null;
+    }
+
+    public void setAdditionalProperties(final Object additionalProperties) {
+        value(ADDITIONAL_PROPERTIES, additionalProperties);
+    }
+
+    @Override
+    @JsonbTransient
+    public void setAdditionalProperties(final Boolean additionalProperties) {
+        value(ADDITIONAL_PROPERTIES, additionalProperties);
+    }
+
+    @Override
+    @JsonbTransient
+    public void setAdditionalPropertiesBoolean(final Boolean additionalProperties) {
+        value(ADDITIONAL_PROPERTIES, additionalProperties);
+    }
+
+    @Override
+    @JsonbTransient
+    public void setAdditionalProperties(final Schema additionalProperties) {
+        value(ADDITIONAL_PROPERTIES, additionalProperties);
+    }
+
+    @Override
+    @JsonbTransient
+    public void setAdditionalPropertiesSchema(final Schema additionalProperties) {
+        value(ADDITIONAL_PROPERTIES, additionalProperties);
+    }
+
+    @Override
+    public Schema additionalProperties(final Schema additionalProperties) {
+        value(ADDITIONAL_PROPERTIES, additionalProperties);
+        return this;
+    }
+
+    @Override
+    public Schema additionalProperties(final Boolean additionalProperties) {
+        value(ADDITIONAL_PROPERTIES, additionalProperties);
+        return this;
+    }
+
+    @Override
+    public List<Schema> getAllOf() {
+        return value(ALL_OF);
+    }
+
+    @Override
+    public void setAllOf(final List<Schema> allOf) {
+        value(ALL_OF, allOf);
+    }
+
+    @Override
+    public Schema allOf(final List<Schema> allOf) {
+        setAllOf(allOf);
+        return this;
+    }
+
+    @Override
+    public Schema addAllOf(final Schema allOf) {
+        addItem(ALL_OF, allOf);
+        return this;
+    }
+
+    @Override
+    public void removeAllOf(final Schema allOf) {
+        removeItem(ALL_OF, allOf);
+    }
+
+    @Override
+    public List<Schema> getAnyOf() {
+        return value(ANY_OF);
+    }
+
+    @Override
+    public void setAnyOf(final List<Schema> anyOf) {
+        value(ANY_OF, anyOf);
+    }
+
+    @Override
+    public Schema anyOf(final List<Schema> anyOf) {
+        setAnyOf(anyOf);
+        return this;
+    }
+
+    @Override
+    public Schema addAnyOf(final Schema anyOf) {
+        addItem(ANY_OF, anyOf);
+        return this;
+    }
+
+    @Override
+    public void removeAnyOf(final Schema anyOf) {
+        removeItem(ANY_OF, anyOf);
+    }
+
+    @Override
+    @JsonbProperty("default")
+    public Object getDefaultValue() {
+        return value(DEFAULT_VALUE);
+    }
+
+    @Override
+    @JsonbProperty("default")
+    public void setDefaultValue(final Object defaultValue) {
+        value(DEFAULT_VALUE, defaultValue);
+    }
+
+    @Override
+    public Schema defaultValue(final Object defaultValue) {
+        setDefaultValue(defaultValue);
+        return this;
+    }
+
+    @Override
+    public Boolean getDeprecated() {
+        return flag(DEPRECATED);
+    }
+
+    @Override
+    public void setDeprecated(final Boolean deprecated) {
+        flag(DEPRECATED, deprecated);
+    }
+
+    @Override
+    public Schema deprecated(final Boolean deprecated) {
+        setDeprecated(deprecated);
+        return this;
+    }
+
+    @Override
+    public String getDescription() {
+        return value(DESCRIPTION);
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        value(DESCRIPTION, description);
+    }
+
+    @Override
+    public Schema description(final String description) {
+        setDescription(description);
+        return this;
+    }
+
+    @Override
+    public Discriminator getDiscriminator() {
+        return value(DISCRIMINATOR);
+    }
+
+    @Override
+    public void setDiscriminator(final Discriminator discriminator) {
+        value(DISCRIMINATOR, discriminator);
+    }
+
+    @Override
+    public Schema discriminator(final Discriminator discriminator) {
+        setDiscriminator(discriminator);
+        return this;
+    }
+
+    @Override
+    @JsonbProperty("enum")
+    public List<Object> getEnumeration() {
+        return value(ENUMERATION);
+    }
+
+    @Override
+    @JsonbProperty("enum")
+    public void setEnumeration(final List<Object> enumeration) {
+        value(ENUMERATION, enumeration);
+    }
+
+    @Override
+    public Schema enumeration(final List<Object> enumeration) {
+        setEnumeration(enumeration);
+        return this;
+    }
+
+    @Override
+    public Schema addEnumeration(final Object enumeration) {
+        addItem(ENUMERATION, enumeration);
+        return this;
+    }
+
+    @Override
+    public void removeEnumeration(final Object enumeration) {
+        removeItem(ENUMERATION, enumeration);
+    }
+
+    @Override
+    public Object getExample() {
+        return value(EXAMPLE);
+    }
+
+    @Override
+    public void setExample(final Object example) {
+        value(EXAMPLE, example);
+    }
+
+    @Override
+    public Schema example(final Object example) {
+        setExample(example);
+        return this;
+    }
+
+    @Override
+    public Boolean getExclusiveMaximum() {
+        return flag(EXCLUSIVE_MAXIMUM);
+    }
+
+    @Override
+    public void setExclusiveMaximum(final Boolean exclusiveMaximum) {
+        flag(EXCLUSIVE_MAXIMUM, exclusiveMaximum);
+    }
+
+    @Override
+    public Schema exclusiveMaximum(final Boolean exclusiveMaximum) {
+        setExclusiveMaximum(exclusiveMaximum);
+        return this;
+    }
+
+    @Override
+    public Boolean getExclusiveMinimum() {
+        return flag(EXCLUSIVE_MINIMUM);
+    }
+
+    @Override
+    public void setExclusiveMinimum(final Boolean exclusiveMinimum) {
+        flag(EXCLUSIVE_MINIMUM, exclusiveMinimum);
+    }
+
+    @Override
+    public Schema exclusiveMinimum(final Boolean exclusiveMinimum) {
+        setExclusiveMinimum(exclusiveMinimum);
+        return this;
+    }
+
+    @Override
+    public ExternalDocumentation getExternalDocs() {
+        return value(EXTERNAL_DOCS);
+    }
+
+    @Override
+    public void setExternalDocs(final ExternalDocumentation externalDocs) {
+        value(EXTERNAL_DOCS, externalDocs);
+    }
+
+    @Override
+    public Schema externalDocs(final ExternalDocumentation externalDocs) {
+        setExternalDocs(externalDocs);
+        return this;
+    }
+
+    @Override
+    public String getFormat() {
+        return value(FORMAT);
+    }
+
+    @Override
+    public void setFormat(final String format) {
+        value(FORMAT, format);
+    }
+
+    @Override
+    public Schema format(final String format) {
+        setFormat(format);
+        return this;
+    }
+
+    @Override
+    public Schema getItems() {
+        return value(ITEMS);
+    }
+
+    @Override
+    public void setItems(final Schema items) {
+        value(ITEMS, items);
+    }
+
+    @Override
+    public Schema items(final Schema items) {
+        setItems(items);
+        return this;
+    }
+
+    @Override
+    public Integer getMaxItems() {
+        return integer(MAX_ITEMS);
+    }
+
+    @Override
+    public void setMaxItems(final Integer maxItems) {
+        integer(MAX_ITEMS, maxItems);
+    }
+
+    @Override
+    public Schema maxItems(final Integer maxItems) {
+        setMaxItems(maxItems);
+        return this;
+    }
+
+    @Override
+    public Integer getMaxLength() {
+        return integer(MAX_LENGTH);
+    }
+
+    @Override
+    public void setMaxLength(final Integer maxLength) {
+        integer(MAX_LENGTH, maxLength);
+    }
+
+    @Override
+    public Schema maxLength(final Integer maxLength) {
+        setMaxLength(maxLength);
+        return this;
+    }
+
+    @Override
+    public Integer getMaxProperties() {
+        return integer(MAX_PROPERTIES);
+    }
+
+    @Override
+    public void setMaxProperties(final Integer maxProperties) {
+        integer(MAX_PROPERTIES, maxProperties);
+    }
+
+    @Override
+    public Schema maxProperties(final Integer maxProperties) {
+        setMaxProperties(maxProperties);
+        return this;
+    }
+
+    @Override
+    @JsonbTypeAdapter(Serializers.BigDecimalSerializer.class)
+    public BigDecimal getMaximum() {
+        return value(MAXIMUM);
+    }
+
+    @Override
+    public void setMaximum(final BigDecimal maximum) {
+        value(MAXIMUM, maximum);
+    }
+
+    @Override
+    public Schema maximum(final BigDecimal maximum) {
+        setMaximum(maximum);
+        return this;
+    }
+
+    @Override
+    public Integer getMinItems() {
+        return integer(MIN_ITEMS);
+    }
+
+    @Override
+    public void setMinItems(final Integer minItems) {
+        integer(MIN_ITEMS, minItems);
+    }
+
+    @Override
+    public Schema minItems(final Integer minItems) {
+        setMinItems(minItems);
+        return this;
+    }
+
+    @Override
+    public Integer getMinLength() {
+        return integer(MIN_LENGTH);
+    }
+
+    @Override
+    public void setMinLength(final Integer minLength) {
+        integer(MIN_LENGTH, minLength);
+    }
+
+    @Override
+    public Schema minLength(final Integer minLength) {
+        setMinLength(minLength);
+        return this;
+    }
+
+    @Override
+    public Integer getMinProperties() {
+        return integer(MIN_PROPERTIES);
+    }
+
+    @Override
+    public void setMinProperties(final Integer minProperties) {
+        integer(MIN_PROPERTIES, minProperties);
+    }
+
+    @Override
+    public Schema minProperties(final Integer minProperties) {
+        setMinProperties(minProperties);
+        return this;
+    }
+
+    @Override
+    @JsonbTypeAdapter(Serializers.BigDecimalSerializer.class)
+    public BigDecimal getMinimum() {
+        return value(MINIMUM);
+    }
+
+    @Override
+    public void setMinimum(final BigDecimal minimum) {
+        value(MINIMUM, minimum);
+    }
+
+    @Override
+    public Schema minimum(final BigDecimal minimum) {
+        setMinimum(minimum);
+        return this;
+    }
+
+    @Override
+    @JsonbTypeAdapter(Serializers.BigDecimalSerializer.class)
+    public BigDecimal getMultipleOf() {
+        return value(MULTIPLE_OF);
+    }
+
+    @Override
+    public void setMultipleOf(final BigDecimal multipleOf) {
+        value(MULTIPLE_OF, multipleOf);
+    }
+
+    @Override
+    public Schema multipleOf(final BigDecimal multipleOf) {
+        setMultipleOf(multipleOf);
+        return this;
+    }
+
+    @Override
+    public Schema getNot() {
+        return value(NOT);
+    }
+
+    @Override
+    public void setNot(final Schema not) {
+        value(NOT, not);
+    }
+
+    @Override
+    public Schema not(final Schema not) {
+        setNot(not);
+        return this;
+    }
+
+    @Override
+    public Boolean getNullable() {
+        return flag(NULLABLE);
+    }
+
+    @Override
+    public void setNullable(final Boolean nullable) {
+        flag(NULLABLE, nullable);
+    }
+
+    @Override
+    public Schema nullable(final Boolean nullable) {
+        setNullable(nullable);
+        return this;
+    }
+
+    @Override
+    public List<Schema> getOneOf() {
+        return value(ONE_OF);
+    }
+
+    @Override
+    public void setOneOf(final List<Schema> oneOf) {
+        value(ONE_OF, oneOf);
+    }
+
+    @Override
+    public Schema oneOf(final List<Schema> oneOf) {
+        setOneOf(oneOf);
+        return this;
+    }
+
+    @Override
+    public Schema addOneOf(final Schema oneOf) {
+        addItem(ONE_OF, oneOf);
+        return this;
+    }
+
+    @Override
+    public void removeOneOf(final Schema oneOf) {
+        removeItem(ONE_OF, oneOf);
+    }
+
+    @Override
+    public String getPattern() {
+        return value(PATTERN);
+    }
+
+    @Override
+    public void setPattern(final String pattern) {
+        value(PATTERN, pattern);
+    }
+
+    @Override
+    public Schema pattern(final String pattern) {
+        setPattern(pattern);
+        return this;
+    }
+
+    @Override
+    public Map<String, Schema> getProperties() {
+        return value(PROPERTIES);
+    }
+
+    @Override
+    public void setProperties(final Map<String, Schema> properties) {
+        value(PROPERTIES, properties);
+    }
+
+    @Override
+    public Schema properties(final Map<String, Schema> properties) {
+        setProperties(properties);
+        return this;
+    }
+
+    @Override
+    public Schema addProperty(final String key, final Schema property) {
+        checkMutable();
+        if (property != null) {
+            Map<String, Schema> properties = value(PROPERTIES);
+            if (properties == null) {
+                properties = new LinkedHashMap<>();
+                value(PROPERTIES, properties);
+            }
+            properties.put(key, property);
+        }
+        return this;
+    }
+
+    @Override
+    public void removeProperty(final String key) {
+        checkMutable();
+        final Map<String, Schema> properties = value(PROPERTIES);
+        if (properties != null) {
+            properties.remove(key);
+        }
+    }
+
+    @Override
+    public Boolean getReadOnly() {
+        return flag(READ_ONLY);
+    }
+
+    @Override
+    public void setReadOnly(final Boolean readOnly) {
+        flag(READ_ONLY, readOnly);
+    }
+
+    @Override
+    public Schema readOnly(final Boolean readOnly) {
+        setReadOnly(readOnly);
+        return this;
+    }
+
+    @Override
+    @JsonbProperty("$ref")
+    public String getRef() {
+        return value(REF);
+    }
+
+    @Override
+    @JsonbProperty("$ref")
+    public void setRef(final String ref) {
+        value(REF, ref == null || ref.startsWith("#") ? ref : ("#/components/schemas/" + ref));
+    }
+
+    @Override
+    public Schema ref(final String ref) {
+        setRef(ref);
+        return this;
+    }
+
+    @Override
+    public List<String> getRequired() {
+        return value(REQUIRED);
+    }
+
+    @Override
+    public void setRequired(final List<String> required) {
+        value(REQUIRED, required);
+    }
+
+    @Override
+    public Schema required(final List<String> required) {
+        setRequired(required);
+        return this;
+    }
+
+    @Override
+    public Schema addRequired(final String required) {
+        addItem(REQUIRED, required);
+        return this;
+    }
+
+    @Override
+    public void removeRequired(final String required) {
+        removeItem(REQUIRED, required);
+    }
+
+    @Override
+    public String getTitle() {
+        return value(TITLE);
+    }
+
+    @Override
+    public void setTitle(final String title) {
+        value(TITLE, title);
+    }
+
+    @Override
+    public Schema title(final String title) {
+        setTitle(title);
+        return this;
+    }
+
+    @Override
+    @JsonbTypeAdapter(Serializers.SchemaTypeSerializer.class)
+    public SchemaType getType() {
+        final int type = (_flags >>> TYPE_SHIFT) & TYPE_MASK;
+        return type == 0 ? null : TYPES[type - 1];
+    }
+
+    @Override
+    @JsonbTypeAdapter(Serializers.SchemaTypeSerializer.class)
+    public void setType(final SchemaType type) {
+        checkMutable();
+        _flags = (_flags & ~(TYPE_MASK << TYPE_SHIFT)) | ((type == null ? 0 : type.ordinal() + 1) << TYPE_SHIFT);
+    }
+
+    @Override
+    public Schema type(final SchemaType type) {
+        setType(type);
+        return this;
+    }
+
+    @Override
+    public Boolean getUniqueItems() {
+        return flag(UNIQUE_ITEMS);
+    }
+
+    @Override
+    public void setUniqueItems(final Boolean uniqueItems) {
+        flag(UNIQUE_ITEMS, uniqueItems);
+    }
+
+    @Override
+    public Schema uniqueItems(final Boolean uniqueItems) {
+        setUniqueItems(uniqueItems);
+        return this;
+    }
+
+    @Override
+    public Boolean getWriteOnly() {
+        return flag(WRITE_ONLY);
+    }
+
+    @Override
+    public void setWriteOnly(final Boolean writeOnly) {
+        flag(WRITE_ONLY, writeOnly);
+    }
+
+    @Override
+    public Schema writeOnly(final Boolean writeOnly) {
+        setWriteOnly(writeOnly);
+        return this;
+    }
+
+    @Override
+    public XML getXml() {
+        return value(XML);
+    }
+
+    @Override
+    public void setXml(final XML xml) {
+        value(XML, xml);
+    }
+
+    @Override
+    public Schema xml(final XML xml) {
+        setXml(xml);
+        return this;
+    }
+
+    private <T> T value(final int slot) {
+        final int bit = 1 << slot;
+        return (_mask & bit) == 0 ? null : (T) _values[Integer.bitCount(_mask & (bit - 1))];
+    }
+
+    private void value(final int slot, final Object value) {
+        checkMutable();
+        final int bit = 1 << slot;
+        final int index = Integer.bitCount(_mask & (bit - 1));
+        if ((_mask & bit) != 0) {
+            if (value != null) {
+                _values[index] = value;
+                return;
+            }
+            final Object[] values = _values.length == 1 ? NO_VALUES : new Object[_values.length - 1];
+            System.arraycopy(_values, 0, values, 0, index);
+            System.arraycopy(_values, index + 1, values, index, values.length - index);
+            _values = values;
+            _mask &= ~bit;
+        } else if (value != null) {
+            final Object[] values = new Object[_values.length + 1];
+            System.arraycopy(_values, 0, values, 0, index);
+            System.arraycopy(_values, index, values, index + 1, _values.length - index);
+            values[index] = value;
+            _values = values;
+            _mask |= bit;
+        }
+    }
+
+    private void addItem(final int slot, final Object item) {
+        checkMutable();
+        if (item != null) {
+            List<Object> items = value(slot);
+            if (items == null) {
+                items = new ArrayList<>();
+                value(slot, items);
+            }
+            items.add(item);
+        }
+    }
+
+    private void removeItem(final int slot, final Object item) {
+        checkMutable();
+        final List<Object> items = value(slot);
+        if (items != null) {
+            items.remove(item);
+        }
+    }
+
+    private Integer integer(final int slot) {
+        final int bit = 1 << (slot + INT_SHIFT);
+        if ((_flags & bit) == 0) {
+            return null;
+        }
+        return _ints[Integer.bitCount(_flags & (bit - 1) & ~((1 << INT_SHIFT) - 1))];
+    }
+
+    private void integer(final int slot, final Integer value) {
+        checkMutable();
+        final int bit = 1 << (slot + INT_SHIFT);
+        final int index = Integer.bitCount(_flags & (bit - 1) & ~((1 << INT_SHIFT) - 1));
+        if ((_flags & bit) != 0) {
+            if (value != null) {
+                _ints[index] = value;
+                return;
+            }
+            final int[] ints = _ints.length == 1 ? NO_INTS : new int[_ints.length - 1];
+            System.arraycopy(_ints, 0, ints, 0, index);
+            System.arraycopy(_ints, index + 1, ints, index, ints.length - index);
+            _ints = ints;
+            _flags &= ~bit;
+        } else if (value != null) {
+            final int[] ints = new int[_ints.length + 1];
+            System.arraycopy(_ints, 0, ints, 0, index);
+            System.arraycopy(_ints, index, ints, index + 1, _ints.length - index);
+            ints[index] = value;
+            _ints = ints;
+            _flags |= bit;
+        }
+    }
+
+    private Boolean flag(final int slot) {
+        return (_flags & (1 << slot)) == 0 ? null : (_flags & (1 << (slot + BOOLEAN_VALUE_SHIFT))) != 0;
+    }
+
+    private void flag(final int slot, final Boolean value) {
+        checkMutable();
+        final int set = 1 << slot;
+        final int bits = set | (1 << (slot + BOOLEAN_VALUE_SHIFT));
+        _flags = (_flags & ~bits) | (value == null ? 0 : (value ? bits : set));
+    }
+
+    @Override
+    public String toString() {
+        return "CompactSchemaImpl{properties=" + getProperties() + ", type=" + getType() + '}';
+    }
+}
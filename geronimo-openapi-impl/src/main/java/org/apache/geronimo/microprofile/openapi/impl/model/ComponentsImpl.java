@@ -25,7 +25,6 @@ import javax.json.bind.annotation.JsonbTypeDeserializer;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Deserializers;
 import org.eclipse.microprofile.openapi.models.Components;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 import org.eclipse.microprofile.openapi.models.examples.Example;
 import org.eclipse.microprofile.openapi.models.headers.Header;
@@ -37,9 +36,9 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
 @Vetoed
-public class ComponentsImpl implements Components {
+public class ComponentsImpl extends ConstructibleImpl implements Components {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Map<String, Callback> _callbacks;
 
@@ -63,23 +62,28 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Components addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -90,6 +94,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapCallbacksDeserializer.class)
     public void setCallbacks(final Map<String, Callback> _callbacks) {
+        checkMutable();
         this._callbacks = _callbacks;
     }
 
@@ -101,6 +106,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addCallback(final String key, final Callback _callbacks) {
+        checkMutable();
         if (_callbacks != null) {
             (this._callbacks = this._callbacks == null ? new LinkedHashMap<>() : this._callbacks).put(key, _callbacks);
         }
@@ -115,6 +121,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapExamplesDeserializer.class)
     public void setExamples(final Map<String, Example> _examples) {
+        checkMutable();
         this._examples = _examples;
     }
 
@@ -126,6 +133,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addExample(final String key, final Example _examples) {
+        checkMutable();
         if (_examples != null) {
             (this._examples = this._examples == null ? new LinkedHashMap<>() : this._examples).put(key, _examples);
         }
@@ -140,6 +148,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapHeadersDeserializer.class)
     public void setHeaders(final Map<String, Header> _headers) {
+        checkMutable();
         this._headers = _headers;
     }
 
@@ -151,6 +160,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addHeader(final String key, final Header _headers) {
+        checkMutable();
         if (_headers != null) {
             (this._headers = this._headers == null ? new LinkedHashMap<>() : this._headers).put(key, _headers);
         }
@@ -165,6 +175,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapLinksDeserializer.class)
     public void setLinks(final Map<String, Link> _links) {
+        checkMutable();
         this._links = _links;
     }
 
@@ -176,6 +187,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addLink(final String key, final Link _links) {
+        checkMutable();
         if (_links != null) {
             (this._links = this._links == null ? new LinkedHashMap<>() : this._links).put(key, _links);
         }
@@ -190,6 +202,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapParametersDeserializer.class)
     public void setParameters(final Map<String, Parameter> _parameters) {
+        checkMutable();
         this._parameters = _parameters;
     }
 
@@ -201,6 +214,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addParameter(final String key, final Parameter _parameters) {
+        checkMutable();
         if (_parameters != null) {
             (this._parameters = this._parameters == null ? new LinkedHashMap<>() : this._parameters).put(key, _parameters);
         }
@@ -215,6 +229,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapRequestBodiesDeserializer.class)
     public void setRequestBodies(final Map<String, RequestBody> _requestBodies) {
+        checkMutable();
         this._requestBodies = _requestBodies;
     }
 
@@ -226,6 +241,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addRequestBody(final String key, final RequestBody _requestBodies) {
+        checkMutable();
         if (_requestBodies != null) {
             (this._requestBodies = this._requestBodies == null ? new LinkedHashMap<>() : this._requestBodies).put(key,
                     _requestBodies);
@@ -241,6 +257,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapAPIResponsesDeserializer.class)
     public void setResponses(final Map<String, APIResponse> _responses) {
+        checkMutable();
         this._responses = _responses;
     }
 
@@ -252,6 +269,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addResponse(final String key, final APIResponse _responses) {
+        checkMutable();
         if (_responses != null) {
             (this._responses = this._responses == null ? new LinkedHashMap<>() : this._responses).put(key, _responses);
         }
@@ -266,6 +284,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapSchemasDeserializer.class)
     public void setSchemas(final Map<String, Schema> _schemas) {
+        checkMutable();
         this._schemas = _schemas;
     }
 
@@ -277,6 +296,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addSchema(final String key, final Schema _schemas) {
+        checkMutable();
         if (_schemas != null) {
             (this._schemas = this._schemas == null ? new LinkedHashMap<>() : this._schemas).put(key, _schemas);
         }
@@ -291,6 +311,7 @@ public class ComponentsImpl implements Components {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapSecuritySchemesDeserializer.class)
     public void setSecuritySchemes(final Map<String, SecurityScheme> _securitySchemes) {
+        checkMutable();
         this._securitySchemes = _securitySchemes;
     }
 
@@ -302,6 +323,7 @@ public class ComponentsImpl implements Components {
 
     @Override
     public Components addSecurityScheme(final String key, final SecurityScheme _securitySchemes) {
+        checkMutable();
         if (_securitySchemes != null) {
             (this._securitySchemes = this._securitySchemes == null ? new LinkedHashMap<>() : this._securitySchemes).put(key,
                     _securitySchemes);
@@ -311,46 +333,55 @@ public class ComponentsImpl implements Components {
 
     @Override
     public void removeSchema(final String key) {
+        checkMutable();
         _schemas.remove(key);
     }
 
     @Override
     public void removeResponse(final String key) {
+        checkMutable();
         _responses.remove(key);
     }
 
     @Override
     public void removeParameter(final String key) {
+        checkMutable();
         _parameters.remove(key);
     }
 
     @Override
     public void removeExample(final String key) {
+        checkMutable();
         _examples.remove(key);
     }
 
     @Override
     public void removeRequestBody(final String key) {
+        checkMutable();
         _requestBodies.remove(key);
     }
 
     @Override
     public void removeHeader(final String key) {
+        checkMutable();
         _headers.remove(key);
     }
 
     @Override
     public void removeSecurityScheme(final String key) {
+        checkMutable();
         _securitySchemes.remove(key);
     }
 
     @Override
     public void removeLink(final String key) {
+        checkMutable();
         _links.remove(key);
     }
 
     @Override
     public void removeCallback(final String key) {
+        checkMutable();
         _callbacks.remove(key);
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model;
+
+import javax.enterprise.inject.Vetoed;
+
+// base of the model elements which are not maps (see APIMap for these ones), handles the frozen state and its hash cache
+@Vetoed
+public abstract class ConstructibleImpl {
+    private boolean _frozen;
+
+    private int _hash; // 0 until computed, only cached once frozen
+
+    // any later mutation of this element fails, containers must be frozen too (see OpenAPICopier#freeze)
+    public void freeze() {
+        _frozen = true;
+    }
+
+    protected void checkMutable() {
+        if (_frozen) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is frozen");
+        }
+    }
+
+    // for the elements with a structural equals: a mutable one can have its children modified directly
+    // so it is always computed but a frozen one (children are frozen too) computes it only once
+    protected final int cachedHash() {
+        if (!_frozen) {
+            return nonZero(structuralHash());
+        }
+        int hash = _hash;
+        if (hash == 0) {
+            hash = nonZero(structuralHash());
+            _hash = hash;
+        }
+        return hash;
+    }
+
+    protected int structuralHash() {
+        return System.identityHashCode(this);
+    }
+
+    // cheap check before a structural equals: two frozen elements with a different cached hash differ
+    protected final boolean mayEqual(final ConstructibleImpl other) {
+        return !_frozen || !other._frozen || cachedHash() == other.cachedHash();
+    }
+
+    private static int nonZero(final int hash) {
+        return hash == 0 ? 1 : hash;
+    }
+}
@@ -21,13 +21,12 @@ import java.util.Map;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.info.Contact;
 
 @Vetoed
-public class ContactImpl implements Contact {
+public class ContactImpl extends ConstructibleImpl implements Contact {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _email;
 
@@ -38,23 +37,28 @@ public class ContactImpl implements Contact {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Contact addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -64,6 +68,7 @@ public class ContactImpl implements Contact {
 
     @Override
     public void setEmail(final String _email) {
+        checkMutable();
         this._email = _email;
     }
 
@@ -80,6 +85,7 @@ public class ContactImpl implements Contact {
 
     @Override
     public void setName(final String _name) {
+        checkMutable();
         this._name = _name;
     }
 
@@ -96,6 +102,7 @@ public class ContactImpl implements Contact {
 
     @Override
     public void setUrl(final String _url) {
+        checkMutable();
         this._url = _url;
     }
 
@@ -16,7 +16,6 @@
  */
 package org.apache.geronimo.microprofile.openapi.impl.model;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.enterprise.inject.Vetoed;
@@ -42,7 +41,7 @@ public class ContentImpl extends APIMap<String, MediaType> implements Content {
 
     @Override
     public Map<String, MediaType> getMediaTypes() {
-        return new LinkedHashMap<>(this);
+        return new APIMap<>(this);
     }
 
     @Override
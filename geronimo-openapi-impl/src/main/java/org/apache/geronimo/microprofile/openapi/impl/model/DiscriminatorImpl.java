@@ -24,7 +24,7 @@ import javax.enterprise.inject.Vetoed;
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 
 @Vetoed
-public class DiscriminatorImpl implements Discriminator {
+public class DiscriminatorImpl extends ConstructibleImpl implements Discriminator {
 
     private Map<String, String> _mapping;
 
@@ -37,6 +37,7 @@ public class DiscriminatorImpl implements Discriminator {
 
     @Override
     public void setMapping(final Map<String, String> _mapping) {
+        checkMutable();
         this._mapping = _mapping;
     }
 
@@ -48,6 +49,7 @@ public class DiscriminatorImpl implements Discriminator {
 
     @Override
     public Discriminator addMapping(final String key, final String _mapping) {
+        checkMutable();
         if (_mapping != null) {
             (this._mapping = this._mapping == null ? new LinkedHashMap<>() : this._mapping).put(key, _mapping);
         }
@@ -56,6 +58,7 @@ public class DiscriminatorImpl implements Discriminator {
 
     @Override
     public void removeMapping(final String name) {
+        checkMutable();
         _mapping.remove(name);
     }
 
@@ -66,6 +69,7 @@ public class DiscriminatorImpl implements Discriminator {
 
     @Override
     public void setPropertyName(final String _propertyName) {
+        checkMutable();
         this._propertyName = _propertyName;
     }
 
@@ -25,14 +25,13 @@ import javax.json.bind.annotation.JsonbTypeDeserializer;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Deserializers;
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Serializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.headers.Header;
 import org.eclipse.microprofile.openapi.models.media.Encoding;
 
 @Vetoed
-public class EncodingImpl implements Encoding {
+public class EncodingImpl extends ConstructibleImpl implements Encoding {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Boolean _allowReserved;
 
@@ -47,23 +46,28 @@ public class EncodingImpl implements Encoding {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Encoding addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -73,6 +77,7 @@ public class EncodingImpl implements Encoding {
 
     @Override
     public void setAllowReserved(final Boolean _allowReserved) {
+        checkMutable();
         this._allowReserved = _allowReserved;
     }
 
@@ -89,6 +94,7 @@ public class EncodingImpl implements Encoding {
 
     @Override
     public void setContentType(final String _contentType) {
+        checkMutable();
         this._contentType = _contentType;
     }
 
@@ -105,6 +111,7 @@ public class EncodingImpl implements Encoding {
 
     @Override
     public void setExplode(final Boolean _explode) {
+        checkMutable();
         this._explode = _explode;
     }
 
@@ -122,11 +129,13 @@ public class EncodingImpl implements Encoding {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapHeadersDeserializer.class)
     public void setHeaders(final Map<String, Header> _headers) {
+        checkMutable();
         this._headers = _headers;
     }
 
     @Override
     public Encoding addHeader(final String key, final Header header) {
+        checkMutable();
         if (header != null) {
             _headers.put(key, header);
         }
@@ -135,6 +144,7 @@ public class EncodingImpl implements Encoding {
 
     @Override
     public void removeHeader(final String key) {
+        checkMutable();
         _headers.remove(key);
     }
 
@@ -153,6 +163,7 @@ public class EncodingImpl implements Encoding {
     @Override
     @JsonbTypeAdapter(Serializers.EncodingStyleSerializer.class)
     public void setStyle(final Style _style) {
+        checkMutable();
         this._style = _style;
     }
 
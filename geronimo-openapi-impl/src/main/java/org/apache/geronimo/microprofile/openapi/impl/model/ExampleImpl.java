@@ -22,13 +22,12 @@ import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbProperty;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.examples.Example;
 
 @Vetoed
-public class ExampleImpl implements Example {
+public class ExampleImpl extends ConstructibleImpl implements Example {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _description;
 
@@ -43,23 +42,28 @@ public class ExampleImpl implements Example {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Example addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -69,6 +73,7 @@ public class ExampleImpl implements Example {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -85,6 +90,7 @@ public class ExampleImpl implements Example {
 
     @Override
     public void setExternalValue(final String _externalValue) {
+        checkMutable();
         this._externalValue = _externalValue;
     }
 
@@ -103,6 +109,7 @@ public class ExampleImpl implements Example {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/examples/" + _ref);
     }
 
@@ -119,6 +126,7 @@ public class ExampleImpl implements Example {
 
     @Override
     public void setSummary(final String _summary) {
+        checkMutable();
         this._summary = _summary;
     }
 
@@ -135,6 +143,7 @@ public class ExampleImpl implements Example {
 
     @Override
     public void setValue(final Object _value) {
+        checkMutable();
         this._value = _value;
     }
 
@@ -38,17 +38,15 @@ public class ExtensibleImpl<T extends Extensible<T>> implements Extensible<T> {
 
     @Override
     public T addExtension(final String key, final Object _extensions) {
-        if (_extensions == null) {
-            return (T) this;
-        }
-        (this._extensions = this._extensions == null ? new LinkedHashMap<>() : this._extensions)
-                .put((key.startsWith("x-") ? key : ("x-" + key)), _extensions);
+        this._extensions = putExtension(this._extensions, key, _extensions);
         return (T) this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensions.remove(name);
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -71,4 +69,15 @@ public class ExtensibleImpl<T extends Extensible<T>> implements Extensible<T> {
     public int hashCode() {
         return Objects.hash(_extensions);
     }
+
+    // most nodes never get an extension so the map is only allocated on the first one
+    public static Map<String, Object> putExtension(final Map<String, Object> extensions, final String key,
+                                                   final Object value) {
+        if (value == null) {
+            return extensions;
+        }
+        final Map<String, Object> target = extensions == null ? new LinkedHashMap<>() : extensions;
+        target.put(key.startsWith("x-") ? key : ("x-" + key), value);
+        return target;
+    }
 }
@@ -22,13 +22,12 @@ import java.util.Objects;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 
 @Vetoed
-public class ExternalDocumentationImpl implements ExternalDocumentation {
+public class ExternalDocumentationImpl extends ConstructibleImpl implements ExternalDocumentation {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _description;
 
@@ -37,23 +36,28 @@ public class ExternalDocumentationImpl implements ExternalDocumentation {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public ExternalDocumentation addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -63,6 +67,7 @@ public class ExternalDocumentationImpl implements ExternalDocumentation {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -79,6 +84,7 @@ public class ExternalDocumentationImpl implements ExternalDocumentation {
 
     @Override
     public void setUrl(final String _url) {
+        checkMutable();
         this._url = _url;
     }
 
@@ -97,12 +103,17 @@ public class ExternalDocumentationImpl implements ExternalDocumentation {
             return false;
         }
         final ExternalDocumentationImpl that = ExternalDocumentationImpl.class.cast(o);
-        return Objects.equals(_extensible, that._extensible) && Objects.equals(_description,
-                that._description) && Objects.equals(_url, that._url);
+        return mayEqual(that) && Objects.equals(_url, that._url) && Objects.equals(_description, that._description)
+                && Objects.equals(_extensions, that._extensions);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(_extensible, _description, _url);
+        return cachedHash();
+    }
+
+    @Override
+    protected int structuralHash() {
+        return Objects.hash(_extensions, _description, _url);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javax.enterprise.inject.Vetoed;
+
+// immutable array backed list of a frozen model, the hash is computed once since nothing can change
+@Vetoed
+public final class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+    private final Object[] items;
+    private final int hash;
+
+    public FrozenList(final Collection<? extends E> items) {
+        this.items = items.toArray();
+        int hash = 1;
+        for (final Object item : this.items) {
+            hash = 31 * hash + Objects.hashCode(item);
+        }
+        this.hash = hash;
+    }
+
+    @Override
+    public E get(final int index) {
+        return (E) items[index];
+    }
+
+    @Override
+    public int size() {
+        return items.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (!(FrozenList.class.isInstance(o) && FrozenList.class.cast(o).hash != hash) && super.equals(o));
+    }
+}
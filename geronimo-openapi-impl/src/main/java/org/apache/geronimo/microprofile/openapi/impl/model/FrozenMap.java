@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.enterprise.inject.Vetoed;
+
+// immutable insertion ordered map of a frozen model: entries are stored in an array,
+// small maps are scanned and bigger ones (paths, schemas...) get an open addressing index
+@Vetoed
+public final class FrozenMap<K, V> extends AbstractMap<K, V> {
+    private static final int SCAN_THRESHOLD = 8;
+
+    private final Entry<K, V>[] entries;
+    private final int[] index; // entry position + 1, 0 for a free slot
+    private final int hash;
+    private Set<Entry<K, V>> entrySet;
+
+    public FrozenMap(final Map<? extends K, ? extends V> source) {
+        this.entries = new Entry[source.size()];
+        int i = 0;
+        int hash = 0;
+        for (final Entry<? extends K, ? extends V> entry : source.entrySet()) {
+            final Entry<K, V> copy = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+            entries[i++] = copy;
+            hash += copy.hashCode();
+        }
+        this.hash = hash;
+        if (entries.length > SCAN_THRESHOLD) {
+            index = new int[Integer.highestOneBit(entries.length * 2 - 1) << 1];
+            for (int e = 0; e < entries.length; e++) {
+                int slot = slot(entries[e].getKey());
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & (index.length - 1);
+                }
+                index[slot] = e + 1;
+            }
+        } else {
+            index = null;
+        }
+    }
+
+    private int slot(final Object key) {
+        final int h = Objects.hashCode(key);
+        return (h ^ (h >>> 16)) & (index.length - 1);
+    }
+
+    private int indexOf(final Object key) {
+        if (index == null) {
+            for (int i = 0; i < entries.length; i++) {
+                if (Objects.equals(entries[i].getKey(), key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int slot = slot(key);
+        int position;
+        while ((position = index[slot]) != 0) {
+            if (Objects.equals(entries[position - 1].getKey(), key)) {
+                return position - 1;
+            }
+            slot = (slot + 1) & (index.length - 1);
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return entries.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int i = indexOf(key);
+        return i < 0 ? null : entries[i].getValue();
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (final Entry<K, V> entry : entries) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        throw new UnsupportedOperationException("frozen map");
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> values) {
+        throw new UnsupportedOperationException("frozen map");
+    }
+
+    @Override
+    public V remove(final Object key) {
+        throw new UnsupportedOperationException("frozen map");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("frozen map");
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (!(FrozenMap.class.isInstance(o) && FrozenMap.class.cast(o).hash != hash) && super.equals(o));
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet == null ? (entrySet = new EntrySet()) : entrySet;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public int size() {
+            return entries.length;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < entries.length;
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    if (next >= entries.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return entries[next++];
+                }
+            };
+        }
+    }
+}
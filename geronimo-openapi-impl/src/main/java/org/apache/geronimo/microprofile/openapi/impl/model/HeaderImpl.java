@@ -27,16 +27,15 @@ import javax.json.bind.annotation.JsonbTypeDeserializer;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Deserializers;
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Serializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.examples.Example;
 import org.eclipse.microprofile.openapi.models.headers.Header;
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
 @Vetoed
-public class HeaderImpl implements Header {
+public class HeaderImpl extends ConstructibleImpl implements Header {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Boolean _allowEmptyValue;
 
@@ -63,28 +62,34 @@ public class HeaderImpl implements Header {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Header addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExample(final String key) {
+        checkMutable();
         _examples.remove(key);
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -94,6 +99,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setAllowEmptyValue(final Boolean _allowEmptyValue) {
+        checkMutable();
         this._allowEmptyValue = _allowEmptyValue;
     }
 
@@ -110,6 +116,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setContent(final Content _content) {
+        checkMutable();
         this._content = _content;
     }
 
@@ -126,6 +133,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setDeprecated(final Boolean _deprecated) {
+        checkMutable();
         this._deprecated = _deprecated;
     }
 
@@ -142,6 +150,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -159,6 +168,7 @@ public class HeaderImpl implements Header {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapExamplesDeserializer.class)
     public void setExample(final Object _example) {
+        checkMutable();
         this._example = _example;
     }
 
@@ -175,6 +185,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setExamples(final Map<String, Example> _examples) {
+        checkMutable();
         this._examples = _examples;
     }
 
@@ -186,6 +197,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public Header addExample(final String key, final Example _examples) {
+        checkMutable();
         if (_examples == null) {
             return this;
         }
@@ -200,6 +212,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setExplode(final Boolean _explode) {
+        checkMutable();
         this._explode = _explode;
     }
 
@@ -218,6 +231,7 @@ public class HeaderImpl implements Header {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/headers/" + _ref);
     }
 
@@ -234,6 +248,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setRequired(final Boolean _required) {
+        checkMutable();
         this._required = _required;
     }
 
@@ -250,6 +265,7 @@ public class HeaderImpl implements Header {
 
     @Override
     public void setSchema(final Schema _schema) {
+        checkMutable();
         this._schema = _schema;
     }
 
@@ -268,6 +284,7 @@ public class HeaderImpl implements Header {
     @Override
     @JsonbTypeAdapter(Serializers.HeaderStyleSerializer.class)
     public void setStyle(final Style _style) {
+        checkMutable();
         this._style = _style;
     }
 
@@ -21,15 +21,14 @@ import java.util.Map;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.info.Contact;
 import org.eclipse.microprofile.openapi.models.info.Info;
 import org.eclipse.microprofile.openapi.models.info.License;
 
 @Vetoed
-public class InfoImpl implements Info {
+public class InfoImpl extends ConstructibleImpl implements Info {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Contact _contact;
 
@@ -46,23 +45,28 @@ public class InfoImpl implements Info {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Info addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -72,6 +76,7 @@ public class InfoImpl implements Info {
 
     @Override
     public void setContact(final Contact _contact) {
+        checkMutable();
         this._contact = _contact;
     }
 
@@ -88,6 +93,7 @@ public class InfoImpl implements Info {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -104,6 +110,7 @@ public class InfoImpl implements Info {
 
     @Override
     public void setLicense(final License _license) {
+        checkMutable();
         this._license = _license;
     }
 
@@ -120,6 +127,7 @@ public class InfoImpl implements Info {
 
     @Override
     public void setTermsOfService(final String _termsOfService) {
+        checkMutable();
         this._termsOfService = _termsOfService;
     }
 
@@ -136,6 +144,7 @@ public class InfoImpl implements Info {
 
     @Override
     public void setTitle(final String _title) {
+        checkMutable();
         this._title = _title;
     }
 
@@ -152,6 +161,7 @@ public class InfoImpl implements Info {
 
     @Override
     public void setVersion(final String _version) {
+        checkMutable();
         this._version = _version;
     }
 
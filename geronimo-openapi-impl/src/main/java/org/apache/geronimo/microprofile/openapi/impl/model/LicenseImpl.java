@@ -21,13 +21,12 @@ import java.util.Map;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.info.License;
 
 @Vetoed
-public class LicenseImpl implements License {
+public class LicenseImpl extends ConstructibleImpl implements License {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _name;
 
@@ -36,23 +35,28 @@ public class LicenseImpl implements License {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public License addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -62,6 +66,7 @@ public class LicenseImpl implements License {
 
     @Override
     public void setName(final String _name) {
+        checkMutable();
         this._name = _name;
     }
 
@@ -78,6 +83,7 @@ public class LicenseImpl implements License {
 
     @Override
     public void setUrl(final String _url) {
+        checkMutable();
         this._url = _url;
     }
 
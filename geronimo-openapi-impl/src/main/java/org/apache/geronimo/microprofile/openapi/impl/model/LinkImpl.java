@@ -23,14 +23,13 @@ import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbProperty;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.links.Link;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 
 @Vetoed
-public class LinkImpl implements Link {
+public class LinkImpl extends ConstructibleImpl implements Link {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _description;
 
@@ -49,27 +48,33 @@ public class LinkImpl implements Link {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Link addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
     public void removeParameter(final String name) {
+        checkMutable();
         _parameters.remove(name);
     }
 
@@ -80,6 +85,7 @@ public class LinkImpl implements Link {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -96,6 +102,7 @@ public class LinkImpl implements Link {
 
     @Override
     public void setOperationId(final String _operationId) {
+        checkMutable();
         this._operationId = _operationId;
     }
 
@@ -112,6 +119,7 @@ public class LinkImpl implements Link {
 
     @Override
     public void setOperationRef(final String _operationRef) {
+        checkMutable();
         this._operationRef = _operationRef;
     }
 
@@ -128,6 +136,7 @@ public class LinkImpl implements Link {
 
     @Override
     public void setParameters(final Map<String, Object> _parameters) {
+        checkMutable();
         this._parameters = _parameters;
     }
 
@@ -139,6 +148,7 @@ public class LinkImpl implements Link {
 
     @Override
     public Link addParameter(final String key, final Object _parameters) {
+        checkMutable();
         if (_parameters != null) {
             (this._parameters = this._parameters == null ? new LinkedHashMap<>() : this._parameters).put(key, _parameters);
         }
@@ -154,6 +164,7 @@ public class LinkImpl implements Link {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/links/" + _ref);
     }
 
@@ -170,6 +181,7 @@ public class LinkImpl implements Link {
 
     @Override
     public void setRequestBody(final Object _requestBody) {
+        checkMutable();
         this._requestBody = _requestBody;
     }
 
@@ -186,6 +198,7 @@ public class LinkImpl implements Link {
 
     @Override
     public void setServer(final Server _server) {
+        checkMutable();
         this._server = _server;
     }
 
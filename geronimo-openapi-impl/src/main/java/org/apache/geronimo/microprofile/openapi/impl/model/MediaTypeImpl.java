@@ -24,16 +24,15 @@ import javax.json.bind.annotation.JsonbTransient;
 import javax.json.bind.annotation.JsonbTypeDeserializer;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Deserializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.examples.Example;
 import org.eclipse.microprofile.openapi.models.media.Encoding;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
 @Vetoed
-public class MediaTypeImpl implements MediaType {
+public class MediaTypeImpl extends ConstructibleImpl implements MediaType {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Map<String, Encoding> _encoding;
 
@@ -46,23 +45,28 @@ public class MediaTypeImpl implements MediaType {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public MediaType addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -73,6 +77,7 @@ public class MediaTypeImpl implements MediaType {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapEncodingsDeserializer.class)
     public void setEncoding(final Map<String, Encoding> _encoding) {
+        checkMutable();
         this._encoding = _encoding;
     }
 
@@ -84,6 +89,7 @@ public class MediaTypeImpl implements MediaType {
 
     @Override
     public MediaType addEncoding(final String key, final Encoding _encoding) {
+        checkMutable();
         if (_encoding != null) {
             (this._encoding = this._encoding == null ? new LinkedHashMap<>() : this._encoding).put(key, _encoding);
         }
@@ -92,6 +98,7 @@ public class MediaTypeImpl implements MediaType {
 
     @Override
     public void removeEncoding(final String key) {
+        checkMutable();
         _encoding.remove(key);
     }
 
@@ -103,6 +110,7 @@ public class MediaTypeImpl implements MediaType {
     @Override
     @JsonbTypeDeserializer(Deserializers.MapExamplesDeserializer.class)
     public void setExample(final Object _example) {
+        checkMutable();
         this._example = _example;
     }
 
@@ -119,6 +127,7 @@ public class MediaTypeImpl implements MediaType {
 
     @Override
     public void setExamples(final Map<String, Example> _examples) {
+        checkMutable();
         this._examples = _examples;
     }
 
@@ -130,6 +139,7 @@ public class MediaTypeImpl implements MediaType {
 
     @Override
     public MediaType addExample(final String key, final Example _examples) {
+        checkMutable();
         if (_examples != null) {
             (this._examples = this._examples == null ? new LinkedHashMap<>() : this._examples).put(key, _examples);
         }
@@ -138,6 +148,7 @@ public class MediaTypeImpl implements MediaType {
 
     @Override
     public void removeExample(final String key) {
+        checkMutable();
         _examples.remove(key);
     }
 
@@ -148,6 +159,7 @@ public class MediaTypeImpl implements MediaType {
 
     @Override
     public void setSchema(final Schema _schema) {
+        checkMutable();
         this._schema = _schema;
     }
 
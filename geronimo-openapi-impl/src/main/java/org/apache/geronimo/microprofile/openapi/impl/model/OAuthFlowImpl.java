@@ -21,14 +21,13 @@ import java.util.Map;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
 import org.eclipse.microprofile.openapi.models.security.Scopes;
 
 @Vetoed
-public class OAuthFlowImpl implements OAuthFlow {
+public class OAuthFlowImpl extends ConstructibleImpl implements OAuthFlow {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _authorizationUrl;
 
@@ -41,23 +40,28 @@ public class OAuthFlowImpl implements OAuthFlow {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public OAuthFlow addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -67,6 +71,7 @@ public class OAuthFlowImpl implements OAuthFlow {
 
     @Override
     public void setAuthorizationUrl(final String _authorizationUrl) {
+        checkMutable();
         this._authorizationUrl = _authorizationUrl;
     }
 
@@ -83,6 +88,7 @@ public class OAuthFlowImpl implements OAuthFlow {
 
     @Override
     public void setRefreshUrl(final String _refreshUrl) {
+        checkMutable();
         this._refreshUrl = _refreshUrl;
     }
 
@@ -99,6 +105,7 @@ public class OAuthFlowImpl implements OAuthFlow {
 
     @Override
     public void setScopes(final Scopes _scopes) {
+        checkMutable();
         this._scopes = _scopes;
     }
 
@@ -115,6 +122,7 @@ public class OAuthFlowImpl implements OAuthFlow {
 
     @Override
     public void setTokenUrl(final String _tokenUrl) {
+        checkMutable();
         this._tokenUrl = _tokenUrl;
     }
 
@@ -21,14 +21,13 @@ import java.util.Map;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
 import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
 
 @Vetoed
-public class OAuthFlowsImpl implements OAuthFlows {
+public class OAuthFlowsImpl extends ConstructibleImpl implements OAuthFlows {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private OAuthFlow _authorizationCode;
 
@@ -41,23 +40,28 @@ public class OAuthFlowsImpl implements OAuthFlows {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public OAuthFlows addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -67,6 +71,7 @@ public class OAuthFlowsImpl implements OAuthFlows {
 
     @Override
     public void setAuthorizationCode(final OAuthFlow _authorizationCode) {
+        checkMutable();
         this._authorizationCode = _authorizationCode;
     }
 
@@ -83,6 +88,7 @@ public class OAuthFlowsImpl implements OAuthFlows {
 
     @Override
     public void setClientCredentials(final OAuthFlow _clientCredentials) {
+        checkMutable();
         this._clientCredentials = _clientCredentials;
     }
 
@@ -99,6 +105,7 @@ public class OAuthFlowsImpl implements OAuthFlows {
 
     @Override
     public void setImplicit(final OAuthFlow _implicit) {
+        checkMutable();
         this._implicit = _implicit;
     }
 
@@ -115,6 +122,7 @@ public class OAuthFlowsImpl implements OAuthFlows {
 
     @Override
     public void setPassword(final OAuthFlow _password) {
+        checkMutable();
         this._password = _password;
     }
 
@@ -26,7 +26,6 @@ import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
 import org.eclipse.microprofile.openapi.models.Components;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.PathItem;
@@ -37,9 +36,9 @@ import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 @Vetoed
-public class OpenAPIImpl implements OpenAPI {
+public class OpenAPIImpl extends ConstructibleImpl implements OpenAPI {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Components _components;
 
@@ -60,37 +59,45 @@ public class OpenAPIImpl implements OpenAPI {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public OpenAPI addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
     public void removeServer(final Server server) {
+        checkMutable();
         _servers.remove(server);
     }
 
     @Override
     public void removeSecurityRequirement(final SecurityRequirement securityRequirement) {
+        checkMutable();
         _security.remove(securityRequirement);
     }
 
     @Override
     public void removeTag(final Tag tag) {
+        checkMutable();
         _tags.remove(tag);
     }
 
@@ -101,6 +108,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setComponents(final Components _components) {
+        checkMutable();
         this._components = _components;
     }
 
@@ -117,6 +125,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setExternalDocs(final ExternalDocumentation _externalDocs) {
+        checkMutable();
         this._externalDocs = _externalDocs;
     }
 
@@ -133,6 +142,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setInfo(final Info _info) {
+        checkMutable();
         this._info = _info;
     }
 
@@ -149,6 +159,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setOpenapi(final String _openapi) {
+        checkMutable();
         this._openapi = _openapi;
     }
 
@@ -165,6 +176,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setPaths(final Paths _paths) {
+        checkMutable();
         this._paths = _paths;
     }
 
@@ -181,6 +193,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setSecurity(final List<SecurityRequirement> _security) {
+        checkMutable();
         this._security = _security;
     }
 
@@ -192,6 +205,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public OpenAPI addSecurityRequirement(final SecurityRequirement _security) {
+        checkMutable();
         (this._security = this._security == null ? new ArrayList<>() : this._security).add(_security);
         return this;
     }
@@ -203,6 +217,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setServers(final List<Server> _servers) {
+        checkMutable();
         this._servers = _servers;
     }
 
@@ -214,6 +229,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public OpenAPI addServer(final Server _servers) {
+        checkMutable();
         (this._servers = this._servers == null ? new ArrayList<>() : this._servers).add(_servers);
         return this;
     }
@@ -225,7 +241,10 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public void setTags(final List<Tag> _tags) {
-        this._tags = _tags == null ? null : _tags.stream().distinct().collect(toList());
+        checkMutable();
+        // a frozen list comes from an already deduplicated model
+        this._tags = _tags == null || FrozenList.class.isInstance(_tags) ?
+                _tags : _tags.stream().distinct().collect(toList());
     }
 
     @Override
@@ -236,6 +255,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public OpenAPI addTag(final Tag _tags) {
+        checkMutable();
         if (this._tags == null) {
             this._tags = new ArrayList<>();
         }
@@ -247,6 +267,7 @@ public class OpenAPIImpl implements OpenAPI {
 
     @Override
     public OpenAPI path(final String name, final PathItem path) {
+        checkMutable();
         (_paths = this._paths == null ? new PathsImpl() : this._paths).addPathItem(name, path);
         return this;
     }
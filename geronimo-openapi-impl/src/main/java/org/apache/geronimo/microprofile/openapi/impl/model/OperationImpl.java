@@ -26,7 +26,6 @@ import java.util.Map;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
@@ -37,9 +36,9 @@ import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 
 @Vetoed
-public class OperationImpl implements Operation {
+public class OperationImpl extends ConstructibleImpl implements Operation {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Map<String, Callback> _callbacks;
 
@@ -68,23 +67,28 @@ public class OperationImpl implements Operation {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Operation addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -94,6 +98,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setCallbacks(final Map<String, Callback> _callbacks) {
+        checkMutable();
         this._callbacks = _callbacks;
     }
 
@@ -110,6 +115,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setDeprecated(final Boolean _deprecated) {
+        checkMutable();
         this._deprecated = _deprecated;
     }
 
@@ -126,6 +132,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -142,6 +149,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setExternalDocs(final ExternalDocumentation _externalDocs) {
+        checkMutable();
         this._externalDocs = _externalDocs;
     }
 
@@ -158,6 +166,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setOperationId(final String _operationId) {
+        checkMutable();
         this._operationId = _operationId;
     }
 
@@ -174,6 +183,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setParameters(final List<Parameter> _parameters) {
+        checkMutable();
         this._parameters = _parameters;
     }
 
@@ -185,6 +195,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public Operation addParameter(final Parameter _parameters) {
+        checkMutable();
         if (_parameters != null) {
             (this._parameters = this._parameters == null ? new ArrayList<>() : this._parameters).add(_parameters);
         }
@@ -198,6 +209,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setRequestBody(final RequestBody _requestBody) {
+        checkMutable();
         this._requestBody = _requestBody;
     }
 
@@ -214,6 +226,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setResponses(final APIResponses _responses) {
+        checkMutable();
         this._responses = _responses;
     }
 
@@ -230,6 +243,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setSecurity(final List<SecurityRequirement> _security) {
+        checkMutable();
         this._security = _security;
     }
 
@@ -241,6 +255,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public Operation addSecurityRequirement(final SecurityRequirement _security) {
+        checkMutable();
         if (_security != null) {
             (this._security = this._security == null ? new ArrayList<>() : this._security).add(_security);
         }
@@ -254,6 +269,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setServers(final List<Server> _servers) {
+        checkMutable();
         this._servers = _servers;
     }
 
@@ -265,6 +281,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public Operation addServer(final Server _servers) {
+        checkMutable();
         (this._servers = this._servers == null ? new ArrayList<>() : this._servers).add(_servers);
         return this;
     }
@@ -276,6 +293,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setSummary(final String _summary) {
+        checkMutable();
         this._summary = _summary;
     }
 
@@ -292,6 +310,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public void setTags(final List<String> _tags) {
+        checkMutable();
         this._tags = _tags;
     }
 
@@ -303,6 +322,7 @@ public class OperationImpl implements Operation {
 
     @Override
     public Operation addTag(final String tag) {
+        checkMutable();
         final List<String> tags = _tags = _tags == null ? new ArrayList<>() : _tags;
         if (!tags.contains(tag)) {
             tags.add(tag);
@@ -312,16 +332,19 @@ public class OperationImpl implements Operation {
 
     @Override
     public void removeTag(final String tag) {
+        checkMutable();
         _tags.remove(tag);
     }
 
     @Override
     public void removeParameter(final Parameter parameter) {
+        checkMutable();
         _parameters.remove(parameter);
     }
 
     @Override
     public Operation addCallback(final String key, final Callback callback) {
+        checkMutable();
         if (callback != null) {
             if (_callbacks == null) {
                 _callbacks = new HashMap<>();
@@ -333,16 +356,19 @@ public class OperationImpl implements Operation {
 
     @Override
     public void removeCallback(final String key) {
+        checkMutable();
         _callbacks.remove(key);
     }
 
     @Override
     public void removeSecurityRequirement(final SecurityRequirement securityRequirement) {
+        checkMutable();
         _security.remove(securityRequirement);
     }
 
     @Override
     public void removeServer(final Server server) {
+        checkMutable();
         _servers.remove(server);
     }
 }
@@ -25,16 +25,15 @@ import javax.json.bind.annotation.JsonbTransient;
 import javax.json.bind.annotation.JsonbTypeAdapter;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Serializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.examples.Example;
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 
 @Vetoed
-public class ParameterImpl implements Parameter {
+public class ParameterImpl extends ConstructibleImpl implements Parameter {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Boolean _allowEmptyValue;
 
@@ -67,23 +66,28 @@ public class ParameterImpl implements Parameter {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Parameter addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -93,6 +97,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setAllowEmptyValue(final Boolean _allowEmptyValue) {
+        checkMutable();
         this._allowEmptyValue = _allowEmptyValue;
     }
 
@@ -109,6 +114,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setAllowReserved(final Boolean _allowReserved) {
+        checkMutable();
         this._allowReserved = _allowReserved;
     }
 
@@ -125,6 +131,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setContent(final Content _content) {
+        checkMutable();
         this._content = _content;
     }
 
@@ -141,6 +148,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setDeprecated(final Boolean _deprecated) {
+        checkMutable();
         this._deprecated = _deprecated;
     }
 
@@ -157,6 +165,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -173,6 +182,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setExample(final Object _example) {
+        checkMutable();
         this._example = _example;
     }
 
@@ -189,6 +199,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setExamples(final Map<String, Example> _examples) {
+        checkMutable();
         this._examples = _examples;
     }
 
@@ -200,6 +211,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public Parameter addExample(final String key, final Example _examples) {
+        checkMutable();
         if (_examples != null) {
             (this._examples = this._examples == null ? new LinkedHashMap<>() : this._examples).put(key, _examples);
         }
@@ -208,6 +220,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void removeExample(final String key) {
+        checkMutable();
         _examples.remove(key);
     }
 
@@ -218,6 +231,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setExplode(final Boolean _explode) {
+        checkMutable();
         this._explode = _explode;
     }
 
@@ -236,6 +250,7 @@ public class ParameterImpl implements Parameter {
     @Override
     @JsonbTypeAdapter(Serializers.InSerializer.class)
     public void setIn(final In _in) {
+        checkMutable();
         this._in = _in;
     }
 
@@ -252,6 +267,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setName(final String _name) {
+        checkMutable();
         this._name = _name;
     }
 
@@ -270,6 +286,7 @@ public class ParameterImpl implements Parameter {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/parameters/" + _ref);
     }
 
@@ -286,6 +303,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setRequired(final Boolean _required) {
+        checkMutable();
         this._required = _required;
     }
 
@@ -302,6 +320,7 @@ public class ParameterImpl implements Parameter {
 
     @Override
     public void setSchema(final Schema _schema) {
+        checkMutable();
         this._schema = _schema;
     }
 
@@ -320,6 +339,7 @@ public class ParameterImpl implements Parameter {
     @Override
     @JsonbTypeAdapter(Serializers.ParameterStyleSerializer.class)
     public void setStyle(final Style _style) {
+        checkMutable();
         this._style = _style;
     }
 
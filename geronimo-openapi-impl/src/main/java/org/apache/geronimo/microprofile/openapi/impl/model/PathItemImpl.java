@@ -31,16 +31,15 @@ import javax.json.bind.annotation.JsonbTransient;
 import javax.json.bind.annotation.JsonbTypeSerializer;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Serializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 
 @Vetoed
-public class PathItemImpl implements PathItem {
+public class PathItemImpl extends ConstructibleImpl implements PathItem {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _description;
 
@@ -71,23 +70,28 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public PathItem addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -100,6 +104,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("delete")
     public void setDELETE(final Operation _dELETE) {
+        checkMutable();
         this._dELETE = _dELETE;
     }
 
@@ -116,6 +121,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -135,6 +141,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("get")
     public void setGET(final Operation _gET) {
+        checkMutable();
         this._gET = _gET;
     }
 
@@ -154,6 +161,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("head")
     public void setHEAD(final Operation _hEAD) {
+        checkMutable();
         this._hEAD = _hEAD;
     }
 
@@ -173,6 +181,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("options")
     public void setOPTIONS(final Operation _oPTIONS) {
+        checkMutable();
         this._oPTIONS = _oPTIONS;
     }
 
@@ -192,6 +201,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("patch")
     public void setPATCH(final Operation _pATCH) {
+        checkMutable();
         this._pATCH = _pATCH;
     }
 
@@ -211,6 +221,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("post")
     public void setPOST(final Operation _pOST) {
+        checkMutable();
         this._pOST = _pOST;
     }
 
@@ -230,6 +241,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("put")
     public void setPUT(final Operation _pUT) {
+        checkMutable();
         this._pUT = _pUT;
     }
 
@@ -246,6 +258,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public void setParameters(final List<Parameter> _parameters) {
+        checkMutable();
         this._parameters = _parameters;
     }
 
@@ -257,6 +270,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public PathItem addParameter(final Parameter _parameters) {
+        checkMutable();
         if (_parameters != null) {
             (this._parameters = this._parameters == null ? new ArrayList<>() : this._parameters).add(_parameters);
         }
@@ -265,6 +279,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public void removeParameter(final Parameter parameter) {
+        checkMutable();
         _parameters.remove(parameter);
     }
 
@@ -277,6 +292,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref;
     }
 
@@ -293,6 +309,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public void setServers(final List<Server> _servers) {
+        checkMutable();
         this._servers = _servers;
     }
 
@@ -304,6 +321,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public PathItem addServer(final Server _servers) {
+        checkMutable();
         if (_servers != null) {
             (this._servers = this._servers == null ? new ArrayList<>() : this._servers).add(_servers);
         }
@@ -312,6 +330,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public void removeServer(final Server server) {
+        checkMutable();
         _servers.remove(server);
     }
 
@@ -322,6 +341,7 @@ public class PathItemImpl implements PathItem {
 
     @Override
     public void setSummary(final String _summary) {
+        checkMutable();
         this._summary = _summary;
     }
 
@@ -341,6 +361,7 @@ public class PathItemImpl implements PathItem {
     @Override
     @JsonbProperty("trace")
     public void setTRACE(final Operation _tRACE) {
+        checkMutable();
         this._tRACE = _tRACE;
     }
 
@@ -22,7 +22,7 @@ import javax.json.bind.annotation.JsonbProperty;
 import org.eclipse.microprofile.openapi.models.Reference;
 
 @Vetoed
-public class ReferenceImpl implements Reference {
+public class ReferenceImpl extends ConstructibleImpl implements Reference {
 
     private String _ref;
 
@@ -35,6 +35,7 @@ public class ReferenceImpl implements Reference {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref;
     }
 
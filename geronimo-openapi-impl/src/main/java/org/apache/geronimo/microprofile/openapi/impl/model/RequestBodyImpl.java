@@ -22,14 +22,13 @@ import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbProperty;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 
 @Vetoed
-public class RequestBodyImpl implements RequestBody {
+public class RequestBodyImpl extends ConstructibleImpl implements RequestBody {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Content _content;
 
@@ -42,23 +41,28 @@ public class RequestBodyImpl implements RequestBody {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public RequestBody addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -68,6 +72,7 @@ public class RequestBodyImpl implements RequestBody {
 
     @Override
     public void setContent(final Content _content) {
+        checkMutable();
         this._content = _content;
     }
 
@@ -84,6 +89,7 @@ public class RequestBodyImpl implements RequestBody {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -102,6 +108,7 @@ public class RequestBodyImpl implements RequestBody {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/requestBodies/" + _ref);
     }
 
@@ -118,6 +125,7 @@ public class RequestBodyImpl implements RequestBody {
 
     @Override
     public void setRequired(final Boolean _required) {
+        checkMutable();
         this._required = _required;
     }
 
@@ -27,16 +27,15 @@ import javax.json.bind.annotation.JsonbTransient;
 import javax.json.bind.annotation.JsonbTypeAdapter;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Serializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.media.XML;
 
 @Vetoed
-public class SchemaImpl implements Schema {
+public class SchemaImpl extends ConstructibleImpl implements Schema {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Object _additionalProperties;
 
@@ -113,23 +112,28 @@ public class SchemaImpl implements Schema {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Schema addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -150,35 +154,41 @@ public class SchemaImpl implements Schema {
     }
 
     public void setAdditionalProperties(final Object additionalProperties) {
+        checkMutable();
         _additionalProperties = additionalProperties;
     }
 
     @Override
     @JsonbTransient
     public void setAdditionalProperties(final Boolean additionalProperties) {
+        checkMutable();
         _additionalProperties = additionalProperties;
     }
 
     @Override
     @JsonbTransient
     public void setAdditionalPropertiesBoolean(final Boolean additionalProperties) {
+        checkMutable();
         _additionalProperties = additionalProperties;
     }
 
     @Override
     @JsonbTransient
     public void setAdditionalProperties(final Schema additionalProperties) {
+        checkMutable();
         this._additionalProperties = additionalProperties;
     }
 
     @Override
     @JsonbTransient
     public void setAdditionalPropertiesSchema(final Schema additionalProperties) {
+        checkMutable();
         this._additionalProperties = additionalProperties;
     }
 
     @Override
     public Schema additionalProperties(final Schema additionalProperties) {
+        checkMutable();
         _additionalProperties = additionalProperties;
         return this;
     }
@@ -196,6 +206,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setAllOf(final List<Schema> _allOf) {
+        checkMutable();
         this._allOf = _allOf;
     }
 
@@ -207,6 +218,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public Schema addAllOf(final Schema allOf) {
+        checkMutable();
         if (allOf != null) {
             (_allOf = _allOf == null ? new ArrayList<>() : _allOf).add(allOf);
         }
@@ -215,6 +227,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void removeAllOf(final Schema allOf) {
+        checkMutable();
         _allOf.remove(allOf);
     }
 
@@ -225,6 +238,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setAnyOf(final List<Schema> _anyOf) {
+        checkMutable();
         this._anyOf = _anyOf;
     }
 
@@ -236,6 +250,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public Schema addAnyOf(final Schema anyOf) {
+        checkMutable();
         if (anyOf != null) {
             (_anyOf = _anyOf == null ? new ArrayList<>() : _anyOf).add(anyOf);
         }
@@ -244,6 +259,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void removeAnyOf(final Schema anyOf) {
+        checkMutable();
         _anyOf.remove(anyOf);
     }
 
@@ -256,6 +272,7 @@ public class SchemaImpl implements Schema {
     @Override
     @JsonbProperty("default")
     public void setDefaultValue(final Object _defaultValue) {
+        checkMutable();
         this._defaultValue = _defaultValue;
     }
 
@@ -272,6 +289,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setDeprecated(final Boolean _deprecated) {
+        checkMutable();
         this._deprecated = _deprecated;
     }
 
@@ -288,6 +306,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -304,6 +323,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setDiscriminator(final Discriminator _discriminator) {
+        checkMutable();
         this._discriminator = _discriminator;
     }
 
@@ -322,6 +342,7 @@ public class SchemaImpl implements Schema {
     @Override
     @JsonbProperty("enum")
     public void setEnumeration(final List<Object> _enumeration) {
+        checkMutable();
         this._enumeration = _enumeration;
     }
 
@@ -333,6 +354,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public Schema addEnumeration(final Object enumeration) {
+        checkMutable();
         if (enumeration != null) {
             (_enumeration = _enumeration == null ? new ArrayList<>() : _enumeration).add(enumeration);
         }
@@ -341,6 +363,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void removeEnumeration(final Object enumeration) {
+        checkMutable();
         _enumeration.remove(enumeration);
     }
 
@@ -351,6 +374,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setExample(final Object _example) {
+        checkMutable();
         this._example = _example;
     }
 
@@ -367,6 +391,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setExclusiveMaximum(final Boolean _exclusiveMaximum) {
+        checkMutable();
         this._exclusiveMaximum = _exclusiveMaximum;
     }
 
@@ -383,6 +408,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setExclusiveMinimum(final Boolean _exclusiveMinimum) {
+        checkMutable();
         this._exclusiveMinimum = _exclusiveMinimum;
     }
 
@@ -399,6 +425,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setExternalDocs(final ExternalDocumentation _externalDocs) {
+        checkMutable();
         this._externalDocs = _externalDocs;
     }
 
@@ -415,6 +442,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setFormat(final String _format) {
+        checkMutable();
         this._format = _format;
     }
 
@@ -431,6 +459,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setItems(final Schema _items) {
+        checkMutable();
         this._items = _items;
     }
 
@@ -447,6 +476,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMaxItems(final Integer _maxItems) {
+        checkMutable();
         this._maxItems = _maxItems;
     }
 
@@ -463,6 +493,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMaxLength(final Integer _maxLength) {
+        checkMutable();
         this._maxLength = _maxLength;
     }
 
@@ -479,6 +510,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMaxProperties(final Integer _maxProperties) {
+        checkMutable();
         this._maxProperties = _maxProperties;
     }
 
@@ -496,6 +528,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMaximum(final java.math.BigDecimal _maximum) {
+        checkMutable();
         this._maximum = _maximum;
     }
 
@@ -512,6 +545,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMinItems(final Integer _minItems) {
+        checkMutable();
         this._minItems = _minItems;
     }
 
@@ -528,6 +562,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMinLength(final Integer _minLength) {
+        checkMutable();
         this._minLength = _minLength;
     }
 
@@ -544,6 +579,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMinProperties(final Integer _minProperties) {
+        checkMutable();
         this._minProperties = _minProperties;
     }
 
@@ -561,6 +597,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMinimum(final java.math.BigDecimal _minimum) {
+        checkMutable();
         this._minimum = _minimum;
     }
 
@@ -578,6 +615,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setMultipleOf(final java.math.BigDecimal _multipleOf) {
+        checkMutable();
         this._multipleOf = _multipleOf;
     }
 
@@ -594,6 +632,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setNot(final Schema _not) {
+        checkMutable();
         this._not = _not;
     }
 
@@ -610,6 +649,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setNullable(final Boolean _nullable) {
+        checkMutable();
         this._nullable = _nullable;
     }
 
@@ -626,6 +666,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setOneOf(final List<Schema> _oneOf) {
+        checkMutable();
         this._oneOf = _oneOf;
     }
 
@@ -637,6 +678,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public Schema addOneOf(final Schema oneOf) {
+        checkMutable();
         if (oneOf != null) {
             (_oneOf = _oneOf == null ? new ArrayList<>() : _oneOf).add(oneOf);
         }
@@ -645,6 +687,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void removeOneOf(final Schema oneOf) {
+        checkMutable();
         _oneOf.remove(oneOf);
     }
 
@@ -655,6 +698,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setPattern(final String _pattern) {
+        checkMutable();
         this._pattern = _pattern;
     }
 
@@ -671,6 +715,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setProperties(final Map<String, Schema> _properties) {
+        checkMutable();
         this._properties = _properties;
     }
 
@@ -682,6 +727,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public Schema addProperty(final String key, final Schema _properties) {
+        checkMutable();
         if (_properties != null) {
             (this._properties = this._properties == null ? new LinkedHashMap<>() : this._properties).put(key, _properties);
         }
@@ -690,6 +736,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void removeProperty(final String key) {
+        checkMutable();
         _properties.remove(key);
     }
 
@@ -700,6 +747,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setReadOnly(final Boolean _readOnly) {
+        checkMutable();
         this._readOnly = _readOnly;
     }
 
@@ -718,6 +766,7 @@ public class SchemaImpl implements Schema {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/schemas/" + _ref);
     }
 
@@ -734,6 +783,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setRequired(final List<String> _required) {
+        checkMutable();
         this._required = _required;
     }
 
@@ -745,6 +795,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public Schema addRequired(final String required) {
+        checkMutable();
         if (required != null) {
             (_required = _required == null ? new ArrayList<>() : _required).add(required);
         }
@@ -753,6 +804,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void removeRequired(final String required) {
+        checkMutable();
         _required.remove(required);
     }
 
@@ -763,6 +815,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setTitle(final String _title) {
+        checkMutable();
         this._title = _title;
     }
 
@@ -781,6 +834,7 @@ public class SchemaImpl implements Schema {
     @Override
     @JsonbTypeAdapter(Serializers.SchemaTypeSerializer.class)
     public void setType(final SchemaType _type) {
+        checkMutable();
         this._type = _type;
     }
 
@@ -797,6 +851,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setUniqueItems(final Boolean _uniqueItems) {
+        checkMutable();
         this._uniqueItems = _uniqueItems;
     }
 
@@ -813,6 +868,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setWriteOnly(final Boolean _writeOnly) {
+        checkMutable();
         this._writeOnly = _writeOnly;
     }
 
@@ -829,6 +885,7 @@ public class SchemaImpl implements Schema {
 
     @Override
     public void setXml(final XML _xml) {
+        checkMutable();
         this._xml = _xml;
     }
 
@@ -19,7 +19,6 @@ package org.apache.geronimo.microprofile.openapi.impl.model;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -52,7 +51,7 @@ public class SecurityRequirementImpl extends APIMap<String, List<String>> implem
 
     @Override
     public Map<String, List<String>> getSchemes() {
-        return new LinkedHashMap<>(this);
+        return new APIMap<>(this);
     }
 
     @Override
@@ -24,14 +24,13 @@ import javax.json.bind.annotation.JsonbTransient;
 import javax.json.bind.annotation.JsonbTypeAdapter;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.codec.Serializers;
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
 @Vetoed
-public class SecuritySchemeImpl implements SecurityScheme {
+public class SecuritySchemeImpl extends ConstructibleImpl implements SecurityScheme {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _bearerFormat;
 
@@ -54,23 +53,28 @@ public class SecuritySchemeImpl implements SecurityScheme {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public SecurityScheme addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -80,6 +84,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
 
     @Override
     public void setBearerFormat(final String _bearerFormat) {
+        checkMutable();
         this._bearerFormat = _bearerFormat;
     }
 
@@ -96,6 +101,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -112,6 +118,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
 
     @Override
     public void setFlows(final OAuthFlows _flows) {
+        checkMutable();
         this._flows = _flows;
     }
 
@@ -130,6 +137,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
     @Override
     @JsonbTypeAdapter(Serializers.SecuritySchemeInSerializer.class)
     public void setIn(final In _in) {
+        checkMutable();
         this._in = _in;
     }
 
@@ -146,6 +154,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
 
     @Override
     public void setName(final String _name) {
+        checkMutable();
         this._name = _name;
     }
 
@@ -162,6 +171,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
 
     @Override
     public void setOpenIdConnectUrl(final String _openIdConnectUrl) {
+        checkMutable();
         this._openIdConnectUrl = _openIdConnectUrl;
     }
 
@@ -180,6 +190,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
     @Override
     @JsonbProperty("$ref")
     public void setRef(final String _ref) {
+        checkMutable();
         this._ref = _ref.startsWith("#") ? _ref : ("#/components/securitySchemes/" + _ref);
     }
 
@@ -196,6 +207,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
 
     @Override
     public void setScheme(final String _scheme) {
+        checkMutable();
         this._scheme = _scheme;
     }
 
@@ -214,6 +226,7 @@ public class SecuritySchemeImpl implements SecurityScheme {
     @Override
     @JsonbTypeAdapter(Serializers.SecuritySchemeTypeSerializer.class)
     public void setType(final Type _type) {
+        checkMutable();
         this._type = _type;
     }
 
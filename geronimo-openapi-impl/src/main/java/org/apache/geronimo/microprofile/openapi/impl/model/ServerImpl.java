@@ -22,15 +22,14 @@ import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbProperty;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariables;
 
 @Vetoed
-public class ServerImpl implements Server {
+public class ServerImpl extends ConstructibleImpl implements Server {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _description;
 
@@ -41,23 +40,28 @@ public class ServerImpl implements Server {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Server addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String s) {
-        _extensible.removeExtension(s);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(s);
+        }
     }
 
     @Override
@@ -67,6 +71,7 @@ public class ServerImpl implements Server {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -83,6 +88,7 @@ public class ServerImpl implements Server {
 
     @Override
     public void setUrl(final String _url) {
+        checkMutable();
         this._url = _url;
     }
 
@@ -101,12 +107,14 @@ public class ServerImpl implements Server {
     @Override
     @JsonbProperty("variables")
     public void setVariables(final ServerVariables _variables) {
+        checkMutable();
         this._variables = _variables;
     }
 
     @Override
     @JsonbTransient
     public void setVariables(final Map<String, ServerVariable> map) {
+        checkMutable();
         if (map != null) {
             this._variables = new ServerVariablesImpl();
             map.forEach((k, v) -> this._variables.addServerVariable(k, v));
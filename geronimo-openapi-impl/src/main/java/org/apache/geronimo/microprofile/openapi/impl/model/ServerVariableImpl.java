@@ -24,13 +24,12 @@ import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbProperty;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 
 @Vetoed
-public class ServerVariableImpl implements ServerVariable {
+public class ServerVariableImpl extends ConstructibleImpl implements ServerVariable {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _defaultValue;
 
@@ -41,27 +40,33 @@ public class ServerVariableImpl implements ServerVariable {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public ServerVariable addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
     public void removeEnumeration(final String enumeration) {
+        checkMutable();
         _enumeration.remove(enumeration);
     }
 
@@ -74,6 +79,7 @@ public class ServerVariableImpl implements ServerVariable {
     @Override
     @JsonbProperty("default")
     public void setDefaultValue(final String _defaultValue) {
+        checkMutable();
         this._defaultValue = _defaultValue;
     }
 
@@ -90,6 +96,7 @@ public class ServerVariableImpl implements ServerVariable {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -108,6 +115,7 @@ public class ServerVariableImpl implements ServerVariable {
     @Override
     @JsonbProperty("enum")
     public void setEnumeration(final List<String> _enumeration) {
+        checkMutable();
         this._enumeration = _enumeration;
     }
 
@@ -119,6 +127,7 @@ public class ServerVariableImpl implements ServerVariable {
 
     @Override
     public ServerVariable addEnumeration(final String enumeration) {
+        checkMutable();
         (_enumeration = _enumeration == null ? new ArrayList<>() : _enumeration).add(enumeration);
         return this;
     }
@@ -16,41 +16,44 @@
  */
 package org.apache.geronimo.microprofile.openapi.impl.model;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariables;
 
 @Vetoed
 public class ServerVariablesImpl extends APIMap<String, ServerVariable> implements ServerVariables {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public ServerVariables addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String s) {
-        _extensible.removeExtension(s);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(s);
+        }
     }
 
     @Override
@@ -68,7 +71,7 @@ public class ServerVariablesImpl extends APIMap<String, ServerVariable> implemen
 
     @Override
     public Map<String, ServerVariable> getServerVariables() {
-        return new LinkedHashMap<>(this);
+        return new APIMap<>(this);
     }
 
     @Override
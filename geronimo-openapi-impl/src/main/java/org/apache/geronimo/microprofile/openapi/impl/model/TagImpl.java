@@ -22,14 +22,13 @@ import java.util.Objects;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 @Vetoed
-public class TagImpl implements Tag {
+public class TagImpl extends ConstructibleImpl implements Tag {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private String _description;
 
@@ -40,23 +39,28 @@ public class TagImpl implements Tag {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public Tag addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -66,6 +70,7 @@ public class TagImpl implements Tag {
 
     @Override
     public void setDescription(final String _description) {
+        checkMutable();
         this._description = _description;
     }
 
@@ -82,6 +87,7 @@ public class TagImpl implements Tag {
 
     @Override
     public void setExternalDocs(final ExternalDocumentation _externalDocs) {
+        checkMutable();
         this._externalDocs = _externalDocs;
     }
 
@@ -98,6 +104,7 @@ public class TagImpl implements Tag {
 
     @Override
     public void setName(final String _name) {
+        checkMutable();
         this._name = _name;
     }
 
@@ -116,13 +123,17 @@ public class TagImpl implements Tag {
             return false;
         }
         final TagImpl tag = TagImpl.class.cast(o);
-        return Objects.equals(_extensible, tag._extensible) && Objects.equals(_description,
-                tag._description) && Objects.equals(_externalDocs, tag._externalDocs) && Objects.equals(_name,
-                tag._name);
+        return mayEqual(tag) && Objects.equals(_name, tag._name) && Objects.equals(_description, tag._description)
+                && Objects.equals(_externalDocs, tag._externalDocs) && Objects.equals(_extensions, tag._extensions);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(_extensible, _description, _externalDocs, _name);
+        return cachedHash();
+    }
+
+    @Override
+    protected int structuralHash() {
+        return Objects.hash(_extensions, _description, _externalDocs, _name);
     }
 }
@@ -21,13 +21,12 @@ import java.util.Map;
 import javax.enterprise.inject.Vetoed;
 import javax.json.bind.annotation.JsonbTransient;
 
-import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.media.XML;
 
 @Vetoed
-public class XMLImpl implements XML {
+public class XMLImpl extends ConstructibleImpl implements XML {
 
-    private Extensible _extensible = new ExtensibleImpl();
+    private Map<String, Object> _extensions;
 
     private Boolean _attribute;
 
@@ -42,23 +41,28 @@ public class XMLImpl implements XML {
     @Override
     @JsonbTransient
     public Map<String, Object> getExtensions() {
-        return _extensible.getExtensions();
+        return _extensions;
     }
 
     @Override
     public void setExtensions(final Map<String, Object> extensions) {
-        _extensible.setExtensions(extensions);
+        checkMutable();
+        this._extensions = extensions;
     }
 
     @Override
     public XML addExtension(final String name, final Object value) {
-        _extensible.addExtension(name, value);
+        checkMutable();
+        _extensions = ExtensibleImpl.putExtension(_extensions, name, value);
         return this;
     }
 
     @Override
     public void removeExtension(final String name) {
-        _extensible.removeExtension(name);
+        checkMutable();
+        if (_extensions != null) {
+            _extensions.remove(name);
+        }
     }
 
     @Override
@@ -68,6 +72,7 @@ public class XMLImpl implements XML {
 
     @Override
     public void setAttribute(final Boolean _attribute) {
+        checkMutable();
         this._attribute = _attribute;
     }
 
@@ -84,6 +89,7 @@ public class XMLImpl implements XML {
 
     @Override
     public void setName(final String _name) {
+        checkMutable();
         this._name = _name;
     }
 
@@ -100,6 +106,7 @@ public class XMLImpl implements XML {
 
     @Override
     public void setNamespace(final String _namespace) {
+        checkMutable();
         this._namespace = _namespace;
     }
 
@@ -116,6 +123,7 @@ public class XMLImpl implements XML {
 
     @Override
     public void setPrefix(final String _prefix) {
+        checkMutable();
         this._prefix = _prefix;
     }
 
@@ -132,6 +140,7 @@ public class XMLImpl implements XML {
 
     @Override
     public void setWrapped(final Boolean _wrapped) {
+        checkMutable();
         this._wrapped = _wrapped;
     }
 
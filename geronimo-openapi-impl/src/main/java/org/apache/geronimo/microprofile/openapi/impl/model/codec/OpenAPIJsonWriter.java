@@ -0,0 +1,639 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model.codec;
+
+import static java.util.Collections.emptyMap;
+
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import javax.enterprise.inject.Vetoed;
+import javax.json.Json;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Extensible;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.Scopes;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariables;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Writes the model as JSON walking it directly instead of relying on JSON-B reflection.
+ * Properties are written in the specification order, null values are skipped and extensions
+ * are written for every extensible element. It is stateless and thread safe.
+ */
+@Vetoed
+public final class OpenAPIJsonWriter {
+    private final JsonGeneratorFactory generatorFactory;
+
+    public OpenAPIJsonWriter() {
+        this(Json.createGeneratorFactory(emptyMap()));
+    }
+
+    public OpenAPIJsonWriter(final JsonGeneratorFactory generatorFactory) {
+        this.generatorFactory = generatorFactory;
+    }
+
+    public void write(final OpenAPI api, final OutputStream stream) {
+        try (final JsonGenerator generator = generatorFactory.createGenerator(new NonClosingOutputStream(stream), StandardCharsets.UTF_8)) {
+            write(api, generator);
+        }
+    }
+
+    public void write(final OpenAPI api, final Writer writer) {
+        try (final JsonGenerator generator = generatorFactory.createGenerator(new NonClosingWriter(writer))) {
+            write(api, generator);
+        }
+    }
+
+    // doesn't flush nor close the generator
+    public void write(final OpenAPI api, final JsonGenerator generator) {
+        generator.writeStartObject();
+        writeString(generator, "openapi", api.getOpenapi());
+        writeObject(generator, "info", api.getInfo(), OpenAPIJsonWriter::writeInfo);
+        writeObject(generator, "externalDocs", api.getExternalDocs(), OpenAPIJsonWriter::writeExternalDocumentation);
+        writeList(generator, "servers", api.getServers(), OpenAPIJsonWriter::writeServer);
+        writeList(generator, "security", api.getSecurity(), OpenAPIJsonWriter::writeSecurityRequirement);
+        writeList(generator, "tags", api.getTags(), OpenAPIJsonWriter::writeTag);
+        writeObject(generator, "paths", api.getPaths(), OpenAPIJsonWriter::writePaths);
+        writeObject(generator, "components", api.getComponents(), OpenAPIJsonWriter::writeComponents);
+        writeExtensions(generator, api);
+        generator.writeEnd();
+    }
+
+    private static void writeInfo(final JsonGenerator generator, final Info info) {
+        writeString(generator, "title", info.getTitle());
+        writeString(generator, "description", info.getDescription());
+        writeString(generator, "termsOfService", info.getTermsOfService());
+        writeObject(generator, "contact", info.getContact(), OpenAPIJsonWriter::writeContact);
+        writeObject(generator, "license", info.getLicense(), OpenAPIJsonWriter::writeLicense);
+        writeString(generator, "version", info.getVersion());
+        writeExtensions(generator, info);
+    }
+
+    private static void writeContact(final JsonGenerator generator, final Contact contact) {
+        writeString(generator, "name", contact.getName());
+        writeString(generator, "url", contact.getUrl());
+        writeString(generator, "email", contact.getEmail());
+        writeExtensions(generator, contact);
+    }
+
+    private static void writeLicense(final JsonGenerator generator, final License license) {
+        writeString(generator, "name", license.getName());
+        writeString(generator, "url", license.getUrl());
+        writeExtensions(generator, license);
+    }
+
+    private static void writeExternalDocumentation(final JsonGenerator generator, final ExternalDocumentation doc) {
+        writeString(generator, "description", doc.getDescription());
+        writeString(generator, "url", doc.getUrl());
+        writeExtensions(generator, doc);
+    }
+
+    private static void writeServer(final JsonGenerator generator, final Server server) {
+        writeString(generator, "url", server.getUrl());
+        writeString(generator, "description", server.getDescription());
+        writeObject(generator, "variables", server.getVariables(), OpenAPIJsonWriter::writeServerVariables);
+        writeExtensions(generator, server);
+    }
+
+    private static void writeServerVariables(final JsonGenerator generator, final ServerVariables variables) {
+        writeEntries(generator, variables, OpenAPIJsonWriter::writeServerVariable);
+        writeExtensions(generator, variables);
+    }
+
+    private static void writeServerVariable(final JsonGenerator generator, final ServerVariable variable) {
+        writeStrings(generator, "enum", variable.getEnumeration());
+        writeString(generator, "default", variable.getDefaultValue());
+        writeString(generator, "description", variable.getDescription());
+        writeExtensions(generator, variable);
+    }
+
+    private static void writeSecurityRequirement(final JsonGenerator generator, final SecurityRequirement requirement) {
+        for (final Map.Entry<String, List<String>> entry : requirement.entrySet()) {
+            writeStrings(generator, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void writeTag(final JsonGenerator generator, final Tag tag) {
+        writeString(generator, "name", tag.getName());
+        writeString(generator, "description", tag.getDescription());
+        writeObject(generator, "externalDocs", tag.getExternalDocs(), OpenAPIJsonWriter::writeExternalDocumentation);
+        writeExtensions(generator, tag);
+    }
+
+    private static void writePaths(final JsonGenerator generator, final Paths paths) {
+        writeEntries(generator, paths, OpenAPIJsonWriter::writePathItem);
+        writeExtensions(generator, paths);
+    }
+
+    private static void writePathItem(final JsonGenerator generator, final PathItem item) {
+        writeString(generator, "$ref", item.getRef());
+        writeString(generator, "summary", item.getSummary());
+        writeString(generator, "description", item.getDescription());
+        writeObject(generator, "get", item.getGET(), OpenAPIJsonWriter::writeOperation);
+        writeObject(generator, "put", item.getPUT(), OpenAPIJsonWriter::writeOperation);
+        writeObject(generator, "post", item.getPOST(), OpenAPIJsonWriter::writeOperation);
+        writeObject(generator, "delete", item.getDELETE(), OpenAPIJsonWriter::writeOperation);
+        writeObject(generator, "options", item.getOPTIONS(), OpenAPIJsonWriter::writeOperation);
+        writeObject(generator, "head", item.getHEAD(), OpenAPIJsonWriter::writeOperation);
+        writeObject(generator, "patch", item.getPATCH(), OpenAPIJsonWriter::writeOperation);
+        writeObject(generator, "trace", item.getTRACE(), OpenAPIJsonWriter::writeOperation);
+        writeList(generator, "servers", item.getServers(), OpenAPIJsonWriter::writeServer);
+        writeList(generator, "parameters", item.getParameters(), OpenAPIJsonWriter::writeParameter);
+        writeExtensions(generator, item);
+    }
+
+    private static void writeOperation(final JsonGenerator generator, final Operation operation) {
+        writeStrings(generator, "tags", operation.getTags());
+        writeString(generator, "summary", operation.getSummary());
+        writeString(generator, "description", operation.getDescription());
+        writeObject(generator, "externalDocs", operation.getExternalDocs(), OpenAPIJsonWriter::writeExternalDocumentation);
+        writeString(generator, "operationId", operation.getOperationId());
+        writeList(generator, "parameters", operation.getParameters(), OpenAPIJsonWriter::writeParameter);
+        writeObject(generator, "requestBody", operation.getRequestBody(), OpenAPIJsonWriter::writeRequestBody);
+        writeObject(generator, "responses", operation.getResponses(), OpenAPIJsonWriter::writeAPIResponses);
+        writeMap(generator, "callbacks", operation.getCallbacks(), OpenAPIJsonWriter::writeCallback);
+        writeBoolean(generator, "deprecated", operation.getDeprecated());
+        writeList(generator, "security", operation.getSecurity(), OpenAPIJsonWriter::writeSecurityRequirement);
+        writeList(generator, "servers", operation.getServers(), OpenAPIJsonWriter::writeServer);
+        writeExtensions(generator, operation);
+    }
+
+    private static void writeParameter(final JsonGenerator generator, final Parameter parameter) {
+        writeString(generator, "$ref", parameter.getRef());
+        writeString(generator, "name", parameter.getName());
+        writeEnum(generator, "in", parameter.getIn());
+        writeString(generator, "description", parameter.getDescription());
+        writeBoolean(generator, "required", parameter.getRequired());
+        writeBoolean(generator, "deprecated", parameter.getDeprecated());
+        writeBoolean(generator, "allowEmptyValue", parameter.getAllowEmptyValue());
+        writeEnum(generator, "style", parameter.getStyle());
+        writeBoolean(generator, "explode", parameter.getExplode());
+        writeBoolean(generator, "allowReserved", parameter.getAllowReserved());
+        writeObject(generator, "schema", parameter.getSchema(), OpenAPIJsonWriter::writeSchema);
+        writeValue(generator, "example", parameter.getExample());
+        writeMap(generator, "examples", parameter.getExamples(), OpenAPIJsonWriter::writeExample);
+        writeObject(generator, "content", parameter.getContent(), OpenAPIJsonWriter::writeContent);
+        writeExtensions(generator, parameter);
+    }
+
+    private static void writeRequestBody(final JsonGenerator generator, final RequestBody body) {
+        writeString(generator, "$ref", body.getRef());
+        writeString(generator, "description", body.getDescription());
+        writeObject(generator, "content", body.getContent(), OpenAPIJsonWriter::writeContent);
+        writeBoolean(generator, "required", body.getRequired());
+        writeExtensions(generator, body);
+    }
+
+    private static void writeContent(final JsonGenerator generator, final Content content) {
+        writeEntries(generator, content, OpenAPIJsonWriter::writeMediaType);
+    }
+
+    private static void writeMediaType(final JsonGenerator generator, final MediaType mediaType) {
+        writeObject(generator, "schema", mediaType.getSchema(), OpenAPIJsonWriter::writeSchema);
+        writeValue(generator, "example", mediaType.getExample());
+        writeMap(generator, "examples", mediaType.getExamples(), OpenAPIJsonWriter::writeExample);
+        writeMap(generator, "encoding", mediaType.getEncoding(), OpenAPIJsonWriter::writeEncoding);
+        writeExtensions(generator, mediaType);
+    }
+
+    private static void writeEncoding(final JsonGenerator generator, final Encoding encoding) {
+        writeString(generator, "contentType", encoding.getContentType());
+        writeMap(generator, "headers", encoding.getHeaders(), OpenAPIJsonWriter::writeHeader);
+        writeEnum(generator, "style", encoding.getStyle());
+        writeBoolean(generator, "explode", encoding.getExplode());
+        writeBoolean(generator, "allowReserved", encoding.getAllowReserved());
+        writeExtensions(generator, encoding);
+    }
+
+    private static void writeAPIResponses(final JsonGenerator generator, final APIResponses responses) {
+        writeEntries(generator, responses, OpenAPIJsonWriter::writeAPIResponse);
+        writeExtensions(generator, responses);
+    }
+
+    private static void writeAPIResponse(final JsonGenerator generator, final APIResponse response) {
+        writeString(generator, "$ref", response.getRef());
+        writeString(generator, "description", response.getDescription());
+        writeMap(generator, "headers", response.getHeaders(), OpenAPIJsonWriter::writeHeader);
+        writeObject(generator, "content", response.getContent(), OpenAPIJsonWriter::writeContent);
+        writeMap(generator, "links", response.getLinks(), OpenAPIJsonWriter::writeLink);
+        writeExtensions(generator, response);
+    }
+
+    private static void writeCallback(final JsonGenerator generator, final Callback callback) {
+        writeString(generator, "$ref", callback.getRef());
+        writeEntries(generator, callback, OpenAPIJsonWriter::writePathItem);
+        writeExtensions(generator, callback);
+    }
+
+    private static void writeExample(final JsonGenerator generator, final Example example) {
+        writeString(generator, "$ref", example.getRef());
+        writeString(generator, "summary", example.getSummary());
+        writeString(generator, "description", example.getDescription());
+        writeValue(generator, "value", example.getValue());
+        writeString(generator, "externalValue", example.getExternalValue());
+        writeExtensions(generator, example);
+    }
+
+    private static void writeLink(final JsonGenerator generator, final Link link) {
+        writeString(generator, "$ref", link.getRef());
+        writeString(generator, "operationRef", link.getOperationRef());
+        writeString(generator, "operationId", link.getOperationId());
+        writeValue(generator, "parameters", link.getParameters());
+        writeValue(generator, "requestBody", link.getRequestBody());
+        writeString(generator, "description", link.getDescription());
+        writeObject(generator, "server", link.getServer(), OpenAPIJsonWriter::writeServer);
+        writeExtensions(generator, link);
+    }
+
+    private static void writeHeader(final JsonGenerator generator, final Header header) {
+        writeString(generator, "$ref", header.getRef());
+        writeString(generator, "description", header.getDescription());
+        writeBoolean(generator, "required", header.getRequired());
+        writeBoolean(generator, "deprecated", header.getDeprecated());
+        writeBoolean(generator, "allowEmptyValue", header.getAllowEmptyValue());
+        writeEnum(generator, "style", header.getStyle());
+        writeBoolean(generator, "explode", header.getExplode());
+        writeObject(generator, "schema", header.getSchema(), OpenAPIJsonWriter::writeSchema);
+        writeValue(generator, "example", header.getExample());
+        writeMap(generator, "examples", header.getExamples(), OpenAPIJsonWriter::writeExample);
+        writeObject(generator, "content", header.getContent(), OpenAPIJsonWriter::writeContent);
+        writeExtensions(generator, header);
+    }
+
+    private static void writeSchema(final JsonGenerator generator, final Schema schema) {
+        writeString(generator, "$ref", schema.getRef());
+        writeEnum(generator, "type", schema.getType());
+        writeString(generator, "format", schema.getFormat());
+        writeString(generator, "title", schema.getTitle());
+        writeString(generator, "description", schema.getDescription());
+        writeValue(generator, "default", schema.getDefaultValue());
+        writeValue(generator, "enum", schema.getEnumeration());
+        writeTruncatedNumber(generator, "multipleOf", schema.getMultipleOf());
+        writeTruncatedNumber(generator, "maximum", schema.getMaximum());
+        writeBoolean(generator, "exclusiveMaximum", schema.getExclusiveMaximum());
+        writeTruncatedNumber(generator, "minimum", schema.getMinimum());
+        writeBoolean(generator, "exclusiveMinimum", schema.getExclusiveMinimum());
+        writeInteger(generator, "maxLength", schema.getMaxLength());
+        writeInteger(generator, "minLength", schema.getMinLength());
+        writeString(generator, "pattern", schema.getPattern());
+        writeInteger(generator, "maxItems", schema.getMaxItems());
+        writeInteger(generator, "minItems", schema.getMinItems());
+        writeBoolean(generator, "uniqueItems", schema.getUniqueItems());
+        writeInteger(generator, "maxProperties", schema.getMaxProperties());
+        writeInteger(generator, "minProperties", schema.getMinProperties());
+        writeStrings(generator, "required", schema.getRequired());
+        writeBoolean(generator, "nullable", schema.getNullable());
+        writeBoolean(generator, "readOnly", schema.getReadOnly());
+        writeBoolean(generator, "writeOnly", schema.getWriteOnly());
+        writeBoolean(generator, "deprecated", schema.getDeprecated());
+        writeObject(generator, "discriminator", schema.getDiscriminator(), OpenAPIJsonWriter::writeDiscriminator);
+        writeObject(generator, "xml", schema.getXml(), OpenAPIJsonWriter::writeXml);
+        writeObject(generator, "externalDocs", schema.getExternalDocs(), OpenAPIJsonWriter::writeExternalDocumentation);
+        writeValue(generator, "example", schema.getExample());
+        writeObject(generator, "items", schema.getItems(), OpenAPIJsonWriter::writeSchema);
+        writeList(generator, "allOf", schema.getAllOf(), OpenAPIJsonWriter::writeSchema);
+        writeList(generator, "oneOf", schema.getOneOf(), OpenAPIJsonWriter::writeSchema);
+        writeList(generator, "anyOf", schema.getAnyOf(), OpenAPIJsonWriter::writeSchema);
+        writeObject(generator, "not", schema.getNot(), OpenAPIJsonWriter::writeSchema);
+        writeMap(generator, "properties", schema.getProperties(), OpenAPIJsonWriter::writeSchema);
+        final Schema additionalProperties = schema.getAdditionalPropertiesSchema();
+        if (additionalProperties != null) {
+            writeObject(generator, "additionalProperties", additionalProperties, OpenAPIJsonWriter::writeSchema);
+        } else {
+            writeBoolean(generator, "additionalProperties", schema.getAdditionalPropertiesBoolean());
+        }
+        writeExtensions(generator, schema);
+    }
+
+    private static void writeDiscriminator(final JsonGenerator generator, final Discriminator discriminator) {
+        writeString(generator, "propertyName", discriminator.getPropertyName());
+        writeValue(generator, "mapping", discriminator.getMapping());
+    }
+
+    private static void writeXml(final JsonGenerator generator, final XML xml) {
+        writeString(generator, "name", xml.getName());
+        writeString(generator, "namespace", xml.getNamespace());
+        writeString(generator, "prefix", xml.getPrefix());
+        writeBoolean(generator, "attribute", xml.getAttribute());
+        writeBoolean(generator, "wrapped", xml.getWrapped());
+        writeExtensions(generator, xml);
+    }
+
+    private static void writeComponents(final JsonGenerator generator, final Components components) {
+        writeMap(generator, "schemas", components.getSchemas(), OpenAPIJsonWriter::writeSchema);
+        writeMap(generator, "responses", components.getResponses(), OpenAPIJsonWriter::writeAPIResponse);
+        writeMap(generator, "parameters", components.getParameters(), OpenAPIJsonWriter::writeParameter);
+        writeMap(generator, "examples", components.getExamples(), OpenAPIJsonWriter::writeExample);
+        writeMap(generator, "requestBodies", components.getRequestBodies(), OpenAPIJsonWriter::writeRequestBody);
+        writeMap(generator, "headers", components.getHeaders(), OpenAPIJsonWriter::writeHeader);
+        writeMap(generator, "securitySchemes", components.getSecuritySchemes(), OpenAPIJsonWriter::writeSecurityScheme);
+        writeMap(generator, "links", components.getLinks(), OpenAPIJsonWriter::writeLink);
+        writeMap(generator, "callbacks", components.getCallbacks(), OpenAPIJsonWriter::writeCallback);
+        writeExtensions(generator, components);
+    }
+
+    private static void writeSecurityScheme(final JsonGenerator generator, final SecurityScheme scheme) {
+        writeString(generator, "$ref", scheme.getRef());
+        writeEnum(generator, "type", scheme.getType());
+        writeString(generator, "description", scheme.getDescription());
+        writeString(generator, "name", scheme.getName());
+        writeEnum(generator, "in", scheme.getIn());
+        writeString(generator, "scheme", scheme.getScheme());
+        writeString(generator, "bearerFormat", scheme.getBearerFormat());
+        writeObject(generator, "flows", scheme.getFlows(), OpenAPIJsonWriter::writeOAuthFlows);
+        writeString(generator, "openIdConnectUrl", scheme.getOpenIdConnectUrl());
+        writeExtensions(generator, scheme);
+    }
+
+    private static void writeOAuthFlows(final JsonGenerator generator, final OAuthFlows flows) {
+        writeObject(generator, "implicit", flows.getImplicit(), OpenAPIJsonWriter::writeOAuthFlow);
+        writeObject(generator, "password", flows.getPassword(), OpenAPIJsonWriter::writeOAuthFlow);
+        writeObject(generator, "clientCredentials", flows.getClientCredentials(), OpenAPIJsonWriter::writeOAuthFlow);
+        writeObject(generator, "authorizationCode", flows.getAuthorizationCode(), OpenAPIJsonWriter::writeOAuthFlow);
+        writeExtensions(generator, flows);
+    }
+
+    private static void writeOAuthFlow(final JsonGenerator generator, final OAuthFlow flow) {
+        writeString(generator, "authorizationUrl", flow.getAuthorizationUrl());
+        writeString(generator, "tokenUrl", flow.getTokenUrl());
+        writeString(generator, "refreshUrl", flow.getRefreshUrl());
+        writeObject(generator, "scopes", flow.getScopes(), OpenAPIJsonWriter::writeScopes);
+        writeExtensions(generator, flow);
+    }
+
+    private static void writeScopes(final JsonGenerator generator, final Scopes scopes) {
+        for (final Map.Entry<String, String> entry : scopes.entrySet()) {
+            writeString(generator, entry.getKey(), entry.getValue());
+        }
+        writeExtensions(generator, scopes);
+    }
+
+    // structure helpers
+
+    private static <T> void writeObject(final JsonGenerator generator, final String name, final T value,
+                                        final BiConsumer<JsonGenerator, T> writer) {
+        if (value == null) {
+            return;
+        }
+        generator.writeStartObject(name);
+        writer.accept(generator, value);
+        generator.writeEnd();
+    }
+
+    private static <T> void writeList(final JsonGenerator generator, final String name, final List<T> values,
+                                      final BiConsumer<JsonGenerator, T> writer) {
+        if (values == null) {
+            return;
+        }
+        generator.writeStartArray(name);
+        for (final T value : values) {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartObject();
+                writer.accept(generator, value);
+                generator.writeEnd();
+            }
+        }
+        generator.writeEnd();
+    }
+
+    private static <T> void writeMap(final JsonGenerator generator, final String name, final Map<String, T> values,
+                                     final BiConsumer<JsonGenerator, T> writer) {
+        if (values == null) {
+            return;
+        }
+        generator.writeStartObject(name);
+        writeEntries(generator, values, writer);
+        generator.writeEnd();
+    }
+
+    private static <T> void writeEntries(final JsonGenerator generator, final Map<String, T> values,
+                                         final BiConsumer<JsonGenerator, T> writer) {
+        for (final Map.Entry<String, T> entry : values.entrySet()) {
+            writeObject(generator, entry.getKey(), entry.getValue(), writer);
+        }
+    }
+
+    private static void writeExtensions(final JsonGenerator generator, final Extensible<?> extensible) {
+        final Map<String, Object> extensions = extensible.getExtensions();
+        if (extensions == null || extensions.isEmpty()) {
+            return;
+        }
+        for (final Map.Entry<String, Object> entry : extensions.entrySet()) {
+            writeValue(generator, entry.getKey(), entry.getValue());
+        }
+    }
+
+    // scalar helpers
+
+    private static void writeString(final JsonGenerator generator, final String name, final String value) {
+        if (value != null) {
+            generator.write(name, value);
+        }
+    }
+
+    private static void writeStrings(final JsonGenerator generator, final String name, final Collection<String> values) {
+        if (values == null) {
+            return;
+        }
+        generator.writeStartArray(name);
+        for (final String value : values) {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.write(value);
+            }
+        }
+        generator.writeEnd();
+    }
+
+    private static void writeBoolean(final JsonGenerator generator, final String name, final Boolean value) {
+        if (value != null) {
+            generator.write(name, value);
+        }
+    }
+
+    private static void writeInteger(final JsonGenerator generator, final String name, final Integer value) {
+        if (value != null) {
+            generator.write(name, value);
+        }
+    }
+
+    private static void writeEnum(final JsonGenerator generator, final String name, final Enum<?> value) {
+        if (value != null) { // model enums serialize as their toString() (see Serializers)
+            generator.write(name, value.toString());
+        }
+    }
+
+    // same as Serializers.BigDecimalSerializer
+    private static void writeTruncatedNumber(final JsonGenerator generator, final String name, final BigDecimal value) {
+        if (value == null) {
+            return;
+        }
+        if (value.remainder(BigDecimal.ONE).compareTo(BigDecimal.ZERO) == 0) {
+            generator.write(name, value.longValueExact());
+        } else {
+            generator.write(name, value);
+        }
+    }
+
+    // free form values (examples, extensions, defaults...)
+
+    private static void writeValue(final JsonGenerator generator, final String name, final Object value) {
+        if (value != null) {
+            generator.writeKey(name);
+            writeValue(generator, value);
+        }
+    }
+
+    private static void writeValue(final JsonGenerator generator, final Object value) {
+        if (value == null) {
+            generator.writeNull();
+        } else if (String.class.isInstance(value)) {
+            generator.write(String.class.cast(value));
+        } else if (JsonValue.class.isInstance(value)) {
+            generator.write(JsonValue.class.cast(value));
+        } else if (Boolean.class.isInstance(value)) {
+            generator.write(Boolean.class.cast(value));
+        } else if (Integer.class.isInstance(value) || Long.class.isInstance(value)
+                || Short.class.isInstance(value) || Byte.class.isInstance(value)) {
+            generator.write(Number.class.cast(value).longValue());
+        } else if (Double.class.isInstance(value)) {
+            generator.write(Double.class.cast(value));
+        } else if (BigDecimal.class.isInstance(value)) {
+            generator.write(BigDecimal.class.cast(value));
+        } else if (BigInteger.class.isInstance(value)) {
+            generator.write(BigInteger.class.cast(value));
+        } else if (Enum.class.isInstance(value)) { // Class#getEnumConstants() in schema enumerations
+            generator.write(Enum.class.cast(value).name());
+        } else if (Map.class.isInstance(value)) {
+            generator.writeStartObject();
+            writeFields(generator, Map.class.cast(value));
+            generator.writeEnd();
+        } else if (Collection.class.isInstance(value)) {
+            generator.writeStartArray();
+            writeItems(generator, Collection.class.cast(value));
+            generator.writeEnd();
+        } else {
+            generator.write(toJsonValue(value));
+        }
+    }
+
+    private static void writeFields(final JsonGenerator generator, final Map<?, ?> values) {
+        for (final Map.Entry<?, ?> entry : values.entrySet()) {
+            writeValue(generator, String.valueOf(entry.getKey()), entry.getValue());
+        }
+    }
+
+    private static void writeItems(final JsonGenerator generator, final Collection<?> values) {
+        for (final Object item : values) {
+            writeValue(generator, item);
+        }
+    }
+
+    // anything else (arrays, pojos, floats...) keeps the JSON-B mapping, it is not a common case
+    private static JsonValue toJsonValue(final Object value) {
+        try (final JsonReader reader = Json.createReader(new StringReader(Fallback.JSONB.toJson(value)))) {
+            return reader.readValue();
+        }
+    }
+
+    @Vetoed
+    private static final class Fallback {
+        private static final Jsonb JSONB = JsonbBuilder.create();
+
+        private Fallback() {
+            // no-op
+        }
+    }
+
+    @Vetoed
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(final OutputStream delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    @Vetoed
+    private static final class NonClosingWriter extends FilterWriter {
+        private NonClosingWriter(final Writer delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
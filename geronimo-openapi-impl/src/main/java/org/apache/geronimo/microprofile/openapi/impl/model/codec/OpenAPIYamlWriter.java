@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model.codec;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Writes the model as block style YAML in a single pass without requiring Jackson.
+ * It shares the traversal (and therefore the property order) of {@link OpenAPIJsonWriter}.
+ */
+@Vetoed
+public final class OpenAPIYamlWriter {
+    private final OpenAPIJsonWriter delegate = new OpenAPIJsonWriter();
+
+    // the stream is flushed but not closed, it belongs to the caller
+    public void write(final OpenAPI api, final OutputStream stream) {
+        write(api, new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+    }
+
+    public void write(final OpenAPI api, final Writer writer) {
+        final YamlGenerator generator = new YamlGenerator(writer);
+        delegate.write(api, generator);
+        generator.flush();
+    }
+}
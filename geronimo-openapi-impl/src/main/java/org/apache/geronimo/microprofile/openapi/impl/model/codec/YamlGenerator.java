@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model.codec;
+
+import static java.util.Locale.ROOT;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Map;
+
+import javax.enterprise.inject.Vetoed;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerationException;
+import javax.json.stream.JsonGenerator;
+
+// block style YAML behind the JSON-P API so the model walk of OpenAPIJsonWriter is reused as is,
+// output mimics jackson-dataformat-yaml: document marker, plain keys when possible and quoted strings
+@Vetoed
+final class YamlGenerator implements JsonGenerator {
+    private static final int INDENT = 2;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final Writer writer;
+    private final char[] buffer = new char[8192];
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private int position;
+    private boolean lineStart = true;
+    private boolean afterKey;
+
+    YamlGenerator(final Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        start(false);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(final String name) {
+        writeKey(name);
+        return writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        start(true);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(final String name) {
+        writeKey(name);
+        return writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator writeKey(final String name) {
+        final Frame frame = frames.peek();
+        if (frame == null || frame.array || afterKey) {
+            throw new JsonGenerationException("A key can only be written in an object: " + name);
+        }
+        startEntry(frame);
+        if (isPlainKey(name)) {
+            append(name);
+        } else {
+            appendQuoted(name);
+        }
+        append(':');
+        afterKey = true;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final JsonValue value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final String value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final BigInteger value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final BigDecimal value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final int value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final long value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final double value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(final String name, final boolean value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(final String name) {
+        writeKey(name);
+        return writeNull();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        if (afterKey) {
+            throw new JsonGenerationException("Missing value for the last key");
+        }
+        final Frame frame = frames.poll();
+        if (frame == null) {
+            throw new JsonGenerationException("No object or array to end");
+        }
+        if (frame.empty) {
+            if (!frame.inline) {
+                append(' ');
+            }
+            append(frame.array ? "[]" : "{}");
+            newLine();
+        }
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(final JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                writeStartObject();
+                for (final Map.Entry<String, JsonValue> entry : JsonObject.class.cast(value).entrySet()) {
+                    writeKey(entry.getKey());
+                    write(entry.getValue());
+                }
+                return writeEnd();
+            case ARRAY:
+                writeStartArray();
+                for (final JsonValue item : JsonArray.class.cast(value)) {
+                    write(item);
+                }
+                return writeEnd();
+            case STRING:
+                return write(JsonString.class.cast(value).getString());
+            case NUMBER:
+                return write(JsonNumber.class.cast(value).bigDecimalValue());
+            case TRUE:
+                return write(true);
+            case FALSE:
+                return write(false);
+            default:
+                return writeNull();
+        }
+    }
+
+    @Override
+    public JsonGenerator write(final String value) {
+        startScalar();
+        appendQuoted(value);
+        newLine();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(final BigDecimal value) {
+        return writeScalar(toYamlNumber(value));
+    }
+
+    @Override
+    public JsonGenerator write(final BigInteger value) {
+        return writeScalar(value.toString());
+    }
+
+    @Override
+    public JsonGenerator write(final int value) {
+        return writeScalar(Integer.toString(value));
+    }
+
+    @Override
+    public JsonGenerator write(final long value) {
+        return writeScalar(Long.toString(value));
+    }
+
+    @Override
+    public JsonGenerator write(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new NumberFormatException("Can't write " + value);
+        }
+        return writeScalar(toYamlNumber(BigDecimal.valueOf(value)));
+    }
+
+    @Override
+    public JsonGenerator write(final boolean value) {
+        return writeScalar(Boolean.toString(value));
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        return writeScalar("null");
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            writer.close();
+        } catch (final IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.write(buffer, 0, position);
+            position = 0;
+            writer.flush();
+        } catch (final IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    private JsonGenerator writeScalar(final String value) {
+        startScalar();
+        append(value);
+        newLine();
+        return this;
+    }
+
+    // positions the output where the value goes: after "key: ", "- " or the document marker
+    private void startScalar() {
+        final Frame frame = frames.peek();
+        if (frame == null) {
+            append("--- ");
+        } else if (frame.array) {
+            startEntry(frame);
+            append("- ");
+        } else if (afterKey) {
+            append(' ');
+            afterKey = false;
+        } else {
+            throw new JsonGenerationException("A value in an object needs a key");
+        }
+    }
+
+    private void start(final boolean array) {
+        final Frame parent = frames.peek();
+        if (parent == null) {
+            append("---");
+            lineStart = false;
+            frames.push(new Frame(array, 0, false));
+        } else if (parent.array) { // first entry goes on the same line: "- key: value" or "- - item"
+            startEntry(parent);
+            append("- ");
+            frames.push(new Frame(array, parent.indent + INDENT, true));
+        } else if (afterKey) { // sequences are not indented under their key
+            afterKey = false;
+            frames.push(new Frame(array, array ? parent.indent : parent.indent + INDENT, false));
+        } else {
+            throw new JsonGenerationException("A value in an object needs a key");
+        }
+    }
+
+    private void startEntry(final Frame frame) {
+        if (!frame.empty || !frame.inline) {
+            if (!lineStart) {
+                newLine();
+            }
+            for (int i = 0; i < frame.indent; i++) {
+                append(' ');
+            }
+        }
+        frame.empty = false;
+        lineStart = false;
+    }
+
+    private void newLine() {
+        append('\n');
+        lineStart = true;
+    }
+
+    private void appendQuoted(final String value) {
+        append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    append("\\\"");
+                    break;
+                case '\\':
+                    append("\\\\");
+                    break;
+                case '\n':
+                    append("\\n");
+                    break;
+                case '\r':
+                    append("\\r");
+                    break;
+                case '\t':
+                    append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == 0x7F || c == 0x85 || c == 0x2028 || c == 0x2029 || c == 0xFEFF) {
+                        append("\\u");
+                        append(HEX[(c >> 12) & 0xF]);
+                        append(HEX[(c >> 8) & 0xF]);
+                        append(HEX[(c >> 4) & 0xF]);
+                        append(HEX[c & 0xF]);
+                    } else {
+                        append(c);
+                    }
+            }
+        }
+        append('"');
+    }
+
+    private void append(final String value) {
+        final int length = value.length();
+        if (position + length > buffer.length) {
+            drain();
+            if (length > buffer.length) {
+                writeDirectly(value);
+                return;
+            }
+        }
+        value.getChars(0, length, buffer, position);
+        position += length;
+    }
+
+    private void append(final char c) {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = c;
+    }
+
+    private void writeDirectly(final String value) {
+        try {
+            writer.write(value);
+        } catch (final IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    private void drain() {
+        try {
+            writer.write(buffer, 0, position);
+            position = 0;
+        } catch (final IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    // YAML 1.1 resolvers only see a float when there is a dot, "1E+3" would be read as a string
+    private static String toYamlNumber(final BigDecimal value) {
+        final String string = value.toString();
+        final int exponent = string.indexOf('E');
+        if (exponent > 0 && string.indexOf('.') < 0) {
+            return string.substring(0, exponent) + ".0" + string.substring(exponent);
+        }
+        return string;
+    }
+
+    // conservative: anything which could be read as another type or contains an indicator is quoted
+    private static boolean isPlainKey(final String key) {
+        if (key.isEmpty()) {
+            return false;
+        }
+        final char first = key.charAt(0);
+        if (!(Character.isLetter(first) && first < 0x80) && first != '_' && first != '/' && first != '$') {
+            return false;
+        }
+        for (int i = 1; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (!(c < 0x80 && Character.isLetterOrDigit(c)) && c != '_' && c != '-' && c != '.'
+                    && c != '/' && c != '$' && c != '{' && c != '}') {
+                return false;
+            }
+        }
+        switch (key.toLowerCase(ROOT)) {
+            case "y":
+            case "n":
+            case "yes":
+            case "no":
+            case "on":
+            case "off":
+            case "true":
+            case "false":
+            case "null":
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static final class Frame {
+        private final boolean array;
+        private final int indent;
+        private final boolean inline; // first entry starts on the line of the parent "- "
+        private boolean empty = true;
+
+        private Frame(final boolean array, final int indent, final boolean inline) {
+            this.array = array;
+            this.indent = indent;
+            this.inline = inline;
+        }
+    }
+}
@@ -0,0 +1,730 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model.copy;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import javax.enterprise.inject.Vetoed;
+import javax.json.JsonValue;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.APIMap;
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponseImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponsesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.CallbackImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.CompactSchemaImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ConstructibleImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ContactImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ContentImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.DiscriminatorImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.EncodingImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ExampleImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ExternalDocumentationImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.FrozenList;
+import org.apache.geronimo.microprofile.openapi.impl.model.FrozenMap;
+import org.apache.geronimo.microprofile.openapi.impl.model.HeaderImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.InfoImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.LicenseImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.LinkImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.MediaTypeImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OAuthFlowImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OAuthFlowsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OperationImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ParameterImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathItemImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.RequestBodyImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ScopesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SecurityRequirementImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SecuritySchemeImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ServerImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ServerVariableImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ServerVariablesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.TagImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.XMLImpl;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.Extensible;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.Scopes;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariables;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Deep copies a model walking it directly, the copy only uses the default implementations and
+ * can be mutated without impacting the source. By default a node reachable from several places
+ * (like a cached schema) is copied once and the copies share it the same way, without it the copy
+ * is a tree and the source must not have any cycle. Free form values (examples, extensions...)
+ * get their maps and lists copied but their leaves are shared. It is stateless and thread safe.
+ * <p>
+ * {@link #freeze(OpenAPI)} does the same copy but the result is an immutable snapshot: lists and maps
+ * are compact array based ones, schemas use {@link CompactSchemaImpl} and every mutation fails,
+ * it can be read concurrently without locking.
+ */
+@Vetoed
+public final class OpenAPICopier {
+    private final boolean preserveIdentity;
+
+    public OpenAPICopier() {
+        this(true);
+    }
+
+    public OpenAPICopier(final boolean preserveIdentity) {
+        this.preserveIdentity = preserveIdentity;
+    }
+
+    public OpenAPI copy(final OpenAPI api) {
+        return new Copy(preserveIdentity, false).openAPI(api);
+    }
+
+    // any model element, mainly useful for filters working on a subtree
+    public <T extends Constructible> T copy(final T node) {
+        return (T) new Copy(preserveIdentity, false).any(node);
+    }
+
+    public OpenAPI freeze(final OpenAPI api) {
+        return new Copy(preserveIdentity, true).openAPI(api);
+    }
+
+    public <T extends Constructible> T freeze(final T node) {
+        return (T) new Copy(preserveIdentity, true).any(node);
+    }
+
+    private static final class Copy {
+        private final Map<Object, Object> copies;
+        private final boolean freeze;
+
+        private Copy(final boolean preserveIdentity, final boolean freeze) {
+            this.copies = preserveIdentity ? new IdentityHashMap<>() : null;
+            this.freeze = freeze;
+        }
+
+        private Object any(final Object node) {
+            if (node == null) {
+                return null;
+            }
+            if (OpenAPI.class.isInstance(node)) {
+                return openAPI(OpenAPI.class.cast(node));
+            }
+            if (Info.class.isInstance(node)) {
+                return info(Info.class.cast(node));
+            }
+            if (Contact.class.isInstance(node)) {
+                return contact(Contact.class.cast(node));
+            }
+            if (License.class.isInstance(node)) {
+                return license(License.class.cast(node));
+            }
+            if (ExternalDocumentation.class.isInstance(node)) {
+                return externalDocs(ExternalDocumentation.class.cast(node));
+            }
+            if (Server.class.isInstance(node)) {
+                return server(Server.class.cast(node));
+            }
+            if (ServerVariables.class.isInstance(node)) {
+                return serverVariables(ServerVariables.class.cast(node));
+            }
+            if (ServerVariable.class.isInstance(node)) {
+                return serverVariable(ServerVariable.class.cast(node));
+            }
+            if (SecurityRequirement.class.isInstance(node)) {
+                return securityRequirement(SecurityRequirement.class.cast(node));
+            }
+            if (Tag.class.isInstance(node)) {
+                return tag(Tag.class.cast(node));
+            }
+            if (Paths.class.isInstance(node)) {
+                return paths(Paths.class.cast(node));
+            }
+            if (PathItem.class.isInstance(node)) {
+                return pathItem(PathItem.class.cast(node));
+            }
+            if (Operation.class.isInstance(node)) {
+                return operation(Operation.class.cast(node));
+            }
+            if (Parameter.class.isInstance(node)) {
+                return parameter(Parameter.class.cast(node));
+            }
+            if (RequestBody.class.isInstance(node)) {
+                return requestBody(RequestBody.class.cast(node));
+            }
+            if (Content.class.isInstance(node)) {
+                return content(Content.class.cast(node));
+            }
+            if (MediaType.class.isInstance(node)) {
+                return mediaType(MediaType.class.cast(node));
+            }
+            if (Encoding.class.isInstance(node)) {
+                return encoding(Encoding.class.cast(node));
+            }
+            if (APIResponses.class.isInstance(node)) {
+                return responses(APIResponses.class.cast(node));
+            }
+            if (APIResponse.class.isInstance(node)) {
+                return response(APIResponse.class.cast(node));
+            }
+            if (Callback.class.isInstance(node)) {
+                return callback(Callback.class.cast(node));
+            }
+            if (Example.class.isInstance(node)) {
+                return example(Example.class.cast(node));
+            }
+            if (Link.class.isInstance(node)) {
+                return link(Link.class.cast(node));
+            }
+            if (Header.class.isInstance(node)) {
+                return header(Header.class.cast(node));
+            }
+            if (Schema.class.isInstance(node)) {
+                return schema(Schema.class.cast(node));
+            }
+            if (Discriminator.class.isInstance(node)) {
+                return discriminator(Discriminator.class.cast(node));
+            }
+            if (XML.class.isInstance(node)) {
+                return xml(XML.class.cast(node));
+            }
+            if (Components.class.isInstance(node)) {
+                return components(Components.class.cast(node));
+            }
+            if (SecurityScheme.class.isInstance(node)) {
+                return securityScheme(SecurityScheme.class.cast(node));
+            }
+            if (OAuthFlows.class.isInstance(node)) {
+                return oauthFlows(OAuthFlows.class.cast(node));
+            }
+            if (OAuthFlow.class.isInstance(node)) {
+                return oauthFlow(OAuthFlow.class.cast(node));
+            }
+            if (Scopes.class.isInstance(node)) {
+                return scopes(Scopes.class.cast(node));
+            }
+            throw new IllegalArgumentException("Unsupported model element: " + node);
+        }
+
+        private OpenAPI openAPI(final OpenAPI source) {
+            return node(source, OpenAPIImpl::new, (from, to) -> {
+                set(from.getOpenapi(), to::setOpenapi);
+                set(info(from.getInfo()), to::setInfo);
+                set(externalDocs(from.getExternalDocs()), to::setExternalDocs);
+                set(list(from.getServers(), this::server), to::setServers);
+                set(list(from.getSecurity(), this::securityRequirement), to::setSecurity);
+                set(list(from.getTags(), this::tag), to::setTags);
+                set(paths(from.getPaths()), to::setPaths);
+                set(components(from.getComponents()), to::setComponents);
+                extensions(from, to);
+            });
+        }
+
+        private Info info(final Info source) {
+            return node(source, InfoImpl::new, (from, to) -> {
+                set(from.getTitle(), to::setTitle);
+                set(from.getDescription(), to::setDescription);
+                set(from.getTermsOfService(), to::setTermsOfService);
+                set(contact(from.getContact()), to::setContact);
+                set(license(from.getLicense()), to::setLicense);
+                set(from.getVersion(), to::setVersion);
+                extensions(from, to);
+            });
+        }
+
+        private Contact contact(final Contact source) {
+            return node(source, ContactImpl::new, (from, to) -> {
+                set(from.getName(), to::setName);
+                set(from.getUrl(), to::setUrl);
+                set(from.getEmail(), to::setEmail);
+                extensions(from, to);
+            });
+        }
+
+        private License license(final License source) {
+            return node(source, LicenseImpl::new, (from, to) -> {
+                set(from.getName(), to::setName);
+                set(from.getUrl(), to::setUrl);
+                extensions(from, to);
+            });
+        }
+
+        private ExternalDocumentation externalDocs(final ExternalDocumentation source) {
+            return node(source, ExternalDocumentationImpl::new, (from, to) -> {
+                set(from.getDescription(), to::setDescription);
+                set(from.getUrl(), to::setUrl);
+                extensions(from, to);
+            });
+        }
+
+        private Server server(final Server source) {
+            return node(source, ServerImpl::new, (from, to) -> {
+                set(from.getUrl(), to::setUrl);
+                set(from.getDescription(), to::setDescription);
+                set(serverVariables(from.getVariables()), to::setVariables);
+                extensions(from, to);
+            });
+        }
+
+        private ServerVariables serverVariables(final ServerVariables source) {
+            return node(source, ServerVariablesImpl::new, (from, to) -> {
+                entries(from, to, this::serverVariable);
+                extensions(from, to);
+            });
+        }
+
+        private ServerVariable serverVariable(final ServerVariable source) {
+            return node(source, ServerVariableImpl::new, (from, to) -> {
+                set(strings(from.getEnumeration()), to::setEnumeration);
+                set(from.getDefaultValue(), to::setDefaultValue);
+                set(from.getDescription(), to::setDescription);
+                extensions(from, to);
+            });
+        }
+
+        private SecurityRequirement securityRequirement(final SecurityRequirement source) {
+            return node(source, SecurityRequirementImpl::new, (from, to) -> entries(from, to, this::strings));
+        }
+
+        private Tag tag(final Tag source) {
+            return node(source, TagImpl::new, (from, to) -> {
+                set(from.getName(), to::setName);
+                set(from.getDescription(), to::setDescription);
+                set(externalDocs(from.getExternalDocs()), to::setExternalDocs);
+                extensions(from, to);
+            });
+        }
+
+        private Paths paths(final Paths source) {
+            return node(source, PathsImpl::new, (from, to) -> {
+                entries(from, to, this::pathItem);
+                extensions(from, to);
+            });
+        }
+
+        private PathItem pathItem(final PathItem source) {
+            return node(source, PathItemImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getSummary(), to::setSummary);
+                set(from.getDescription(), to::setDescription);
+                set(operation(from.getGET()), to::setGET);
+                set(operation(from.getPUT()), to::setPUT);
+                set(operation(from.getPOST()), to::setPOST);
+                set(operation(from.getDELETE()), to::setDELETE);
+                set(operation(from.getOPTIONS()), to::setOPTIONS);
+                set(operation(from.getHEAD()), to::setHEAD);
+                set(operation(from.getPATCH()), to::setPATCH);
+                set(operation(from.getTRACE()), to::setTRACE);
+                set(list(from.getServers(), this::server), to::setServers);
+                set(list(from.getParameters(), this::parameter), to::setParameters);
+                extensions(from, to);
+            });
+        }
+
+        private Operation operation(final Operation source) {
+            return node(source, OperationImpl::new, (from, to) -> {
+                set(strings(from.getTags()), to::setTags);
+                set(from.getSummary(), to::setSummary);
+                set(from.getDescription(), to::setDescription);
+                set(externalDocs(from.getExternalDocs()), to::setExternalDocs);
+                set(from.getOperationId(), to::setOperationId);
+                set(list(from.getParameters(), this::parameter), to::setParameters);
+                set(requestBody(from.getRequestBody()), to::setRequestBody);
+                set(responses(from.getResponses()), to::setResponses);
+                set(map(from.getCallbacks(), this::callback), to::setCallbacks);
+                set(from.getDeprecated(), to::setDeprecated);
+                set(list(from.getSecurity(), this::securityRequirement), to::setSecurity);
+                set(list(from.getServers(), this::server), to::setServers);
+                extensions(from, to);
+            });
+        }
+
+        private Parameter parameter(final Parameter source) {
+            return node(source, ParameterImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getName(), to::setName);
+                set(from.getIn(), to::setIn);
+                set(from.getDescription(), to::setDescription);
+                set(from.getRequired(), to::setRequired);
+                set(from.getDeprecated(), to::setDeprecated);
+                set(from.getAllowEmptyValue(), to::setAllowEmptyValue);
+                set(from.getStyle(), to::setStyle);
+                set(from.getExplode(), to::setExplode);
+                set(from.getAllowReserved(), to::setAllowReserved);
+                set(schema(from.getSchema()), to::setSchema);
+                set(value(from.getExample()), to::setExample);
+                set(map(from.getExamples(), this::example), to::setExamples);
+                set(content(from.getContent()), to::setContent);
+                extensions(from, to);
+            });
+        }
+
+        private RequestBody requestBody(final RequestBody source) {
+            return node(source, RequestBodyImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getDescription(), to::setDescription);
+                set(content(from.getContent()), to::setContent);
+                set(from.getRequired(), to::setRequired);
+                extensions(from, to);
+            });
+        }
+
+        private Content content(final Content source) {
+            return node(source, ContentImpl::new, (from, to) -> entries(from, to, this::mediaType));
+        }
+
+        private MediaType mediaType(final MediaType source) {
+            return node(source, MediaTypeImpl::new, (from, to) -> {
+                set(schema(from.getSchema()), to::setSchema);
+                set(value(from.getExample()), to::setExample);
+                set(map(from.getExamples(), this::example), to::setExamples);
+                set(map(from.getEncoding(), this::encoding), to::setEncoding);
+                extensions(from, to);
+            });
+        }
+
+        private Encoding encoding(final Encoding source) {
+            return node(source, EncodingImpl::new, (from, to) -> {
+                set(from.getContentType(), to::setContentType);
+                set(map(from.getHeaders(), this::header), to::setHeaders);
+                set(from.getStyle(), to::setStyle);
+                set(from.getExplode(), to::setExplode);
+                set(from.getAllowReserved(), to::setAllowReserved);
+                extensions(from, to);
+            });
+        }
+
+        private APIResponses responses(final APIResponses source) {
+            return node(source, APIResponsesImpl::new, (from, to) -> {
+                entries(from, to, this::response);
+                extensions(from, to);
+            });
+        }
+
+        private APIResponse response(final APIResponse source) {
+            return node(source, APIResponseImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getDescription(), to::setDescription);
+                set(map(from.getHeaders(), this::header), to::setHeaders);
+                set(content(from.getContent()), to::setContent);
+                set(map(from.getLinks(), this::link), to::setLinks);
+                extensions(from, to);
+            });
+        }
+
+        private Callback callback(final Callback source) {
+            return node(source, CallbackImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                entries(from, to, this::pathItem);
+                extensions(from, to);
+            });
+        }
+
+        private Example example(final Example source) {
+            return node(source, ExampleImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getSummary(), to::setSummary);
+                set(from.getDescription(), to::setDescription);
+                set(value(from.getValue()), to::setValue);
+                set(from.getExternalValue(), to::setExternalValue);
+                extensions(from, to);
+            });
+        }
+
+        private Link link(final Link source) {
+            return node(source, LinkImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getOperationRef(), to::setOperationRef);
+                set(from.getOperationId(), to::setOperationId);
+                set(values(from.getParameters()), to::setParameters);
+                set(value(from.getRequestBody()), to::setRequestBody);
+                set(from.getDescription(), to::setDescription);
+                set(server(from.getServer()), to::setServer);
+                extensions(from, to);
+            });
+        }
+
+        private Header header(final Header source) {
+            return node(source, HeaderImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getDescription(), to::setDescription);
+                set(from.getRequired(), to::setRequired);
+                set(from.getDeprecated(), to::setDeprecated);
+                set(from.getAllowEmptyValue(), to::setAllowEmptyValue);
+                set(from.getStyle(), to::setStyle);
+                set(from.getExplode(), to::setExplode);
+                set(schema(from.getSchema()), to::setSchema);
+                set(value(from.getExample()), to::setExample);
+                set(map(from.getExamples(), this::example), to::setExamples);
+                set(content(from.getContent()), to::setContent);
+                extensions(from, to);
+            });
+        }
+
+        private Schema schema(final Schema source) {
+            return node(source, freeze ? CompactSchemaImpl::new : SchemaImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getType(), to::setType);
+                set(from.getFormat(), to::setFormat);
+                set(from.getTitle(), to::setTitle);
+                set(from.getDescription(), to::setDescription);
+                set(value(from.getDefaultValue()), to::setDefaultValue);
+                set(list(from.getEnumeration(), this::value), to::setEnumeration);
+                set(from.getMultipleOf(), to::setMultipleOf);
+                set(from.getMaximum(), to::setMaximum);
+                set(from.getExclusiveMaximum(), to::setExclusiveMaximum);
+                set(from.getMinimum(), to::setMinimum);
+                set(from.getExclusiveMinimum(), to::setExclusiveMinimum);
+                set(from.getMaxLength(), to::setMaxLength);
+                set(from.getMinLength(), to::setMinLength);
+                set(from.getPattern(), to::setPattern);
+                set(from.getMaxItems(), to::setMaxItems);
+                set(from.getMinItems(), to::setMinItems);
+                set(from.getUniqueItems(), to::setUniqueItems);
+                set(from.getMaxProperties(), to::setMaxProperties);
+                set(from.getMinProperties(), to::setMinProperties);
+                set(strings(from.getRequired()), to::setRequired);
+                set(from.getNullable(), to::setNullable);
+                set(from.getReadOnly(), to::setReadOnly);
+                set(from.getWriteOnly(), to::setWriteOnly);
+                set(from.getDeprecated(), to::setDeprecated);
+                set(discriminator(from.getDiscriminator()), to::setDiscriminator);
+                set(xml(from.getXml()), to::setXml);
+                set(externalDocs(from.getExternalDocs()), to::setExternalDocs);
+                set(value(from.getExample()), to::setExample);
+                set(schema(from.getItems()), to::setItems);
+                set(list(from.getAllOf(), this::schema), to::setAllOf);
+                set(list(from.getOneOf(), this::schema), to::setOneOf);
+                set(list(from.getAnyOf(), this::schema), to::setAnyOf);
+                set(schema(from.getNot()), to::setNot);
+                set(map(from.getProperties(), this::schema), to::setProperties);
+                final Schema additionalProperties = from.getAdditionalPropertiesSchema();
+                if (additionalProperties != null) {
+                    to.setAdditionalPropertiesSchema(schema(additionalProperties));
+                } else {
+                    set(from.getAdditionalPropertiesBoolean(), to::setAdditionalPropertiesBoolean);
+                }
+                extensions(from, to);
+            });
+        }
+
+        private Discriminator discriminator(final Discriminator source) {
+            return node(source, DiscriminatorImpl::new, (from, to) -> {
+                set(from.getPropertyName(), to::setPropertyName);
+                set(map(from.getMapping(), UnaryOperator.identity()), to::setMapping);
+            });
+        }
+
+        private XML xml(final XML source) {
+            return node(source, XMLImpl::new, (from, to) -> {
+                set(from.getName(), to::setName);
+                set(from.getNamespace(), to::setNamespace);
+                set(from.getPrefix(), to::setPrefix);
+                set(from.getAttribute(), to::setAttribute);
+                set(from.getWrapped(), to::setWrapped);
+                extensions(from, to);
+            });
+        }
+
+        private Components components(final Components source) {
+            return node(source, ComponentsImpl::new, (from, to) -> {
+                set(map(from.getSchemas(), this::schema), to::setSchemas);
+                set(map(from.getResponses(), this::response), to::setResponses);
+                set(map(from.getParameters(), this::parameter), to::setParameters);
+                set(map(from.getExamples(), this::example), to::setExamples);
+                set(map(from.getRequestBodies(), this::requestBody), to::setRequestBodies);
+                set(map(from.getHeaders(), this::header), to::setHeaders);
+                set(map(from.getSecuritySchemes(), this::securityScheme), to::setSecuritySchemes);
+                set(map(from.getLinks(), this::link), to::setLinks);
+                set(map(from.getCallbacks(), this::callback), to::setCallbacks);
+                extensions(from, to);
+            });
+        }
+
+        private SecurityScheme securityScheme(final SecurityScheme source) {
+            return node(source, SecuritySchemeImpl::new, (from, to) -> {
+                set(from.getRef(), to::setRef);
+                set(from.getType(), to::setType);
+                set(from.getDescription(), to::setDescription);
+                set(from.getName(), to::setName);
+                set(from.getIn(), to::setIn);
+                set(from.getScheme(), to::setScheme);
+                set(from.getBearerFormat(), to::setBearerFormat);
+                set(oauthFlows(from.getFlows()), to::setFlows);
+                set(from.getOpenIdConnectUrl(), to::setOpenIdConnectUrl);
+                extensions(from, to);
+            });
+        }
+
+        private OAuthFlows oauthFlows(final OAuthFlows source) {
+            return node(source, OAuthFlowsImpl::new, (from, to) -> {
+                set(oauthFlow(from.getImplicit()), to::setImplicit);
+                set(oauthFlow(from.getPassword()), to::setPassword);
+                set(oauthFlow(from.getClientCredentials()), to::setClientCredentials);
+                set(oauthFlow(from.getAuthorizationCode()), to::setAuthorizationCode);
+                extensions(from, to);
+            });
+        }
+
+        private OAuthFlow oauthFlow(final OAuthFlow source) {
+            return node(source, OAuthFlowImpl::new, (from, to) -> {
+                set(from.getAuthorizationUrl(), to::setAuthorizationUrl);
+                set(from.getTokenUrl(), to::setTokenUrl);
+                set(from.getRefreshUrl(), to::setRefreshUrl);
+                set(scopes(from.getScopes()), to::setScopes);
+                extensions(from, to);
+            });
+        }
+
+        private Scopes scopes(final Scopes source) {
+            return node(source, ScopesImpl::new, (from, to) -> {
+                if (!freeze && APIMap.class.isInstance(from)) { // values are strings, no need to copy the entries until a write
+                    APIMap.class.cast(to).share(APIMap.class.cast(from));
+                } else {
+                    to.putAll(from);
+                }
+                extensions(from, to);
+            });
+        }
+
+        // structure helpers
+
+        // copies a node once when the identity is preserved, registered before being filled to support cycles
+        private <T> T node(final T source, final Supplier<? extends T> factory, final BiConsumer<T, T> filler) {
+            if (source == null) {
+                return null;
+            }
+            if (copies != null) {
+                final Object existing = copies.get(source);
+                if (existing != null) {
+                    return (T) existing;
+                }
+            }
+            final T copy = factory.get();
+            if (copies != null) {
+                copies.put(source, copy);
+            }
+            filler.accept(source, copy);
+            if (freeze) {
+                if (ConstructibleImpl.class.isInstance(copy)) {
+                    ConstructibleImpl.class.cast(copy).freeze();
+                } else {
+                    APIMap.class.cast(copy).freeze();
+                }
+            }
+            return copy;
+        }
+
+        private <T> List<T> list(final List<T> source, final UnaryOperator<T> copier) {
+            if (source == null) {
+                return null;
+            }
+            final List<T> copy = new ArrayList<>(source.size());
+            for (final T item : source) {
+                copy.add(copier.apply(item));
+            }
+            return freeze ? new FrozenList<>(copy) : copy;
+        }
+
+        private <T> Map<String, T> map(final Map<String, T> source, final UnaryOperator<T> copier) {
+            if (source == null) {
+                return null;
+            }
+            final Map<String, T> copy = entries(source, new LinkedHashMap<>(), copier);
+            return freeze ? new FrozenMap<>(copy) : copy;
+        }
+
+        private <T, M extends Map<String, T>> M entries(final Map<String, T> source, final M target,
+                                                        final UnaryOperator<T> copier) {
+            for (final Map.Entry<String, T> entry : source.entrySet()) {
+                target.put(entry.getKey(), copier.apply(entry.getValue()));
+            }
+            return target;
+        }
+
+        private List<String> strings(final List<String> source) {
+            if (source == null) {
+                return null;
+            }
+            return freeze ? new FrozenList<>(source) : new ArrayList<>(source);
+        }
+
+        private void extensions(final Extensible<?> from, final Extensible<?> to) {
+            final Map<String, Object> extensions = from.getExtensions();
+            if (extensions != null) {
+                to.setExtensions(values(extensions));
+            }
+        }
+
+        // free form values, only the containers are copied, JSON-P values are immutable
+        private Object value(final Object source) {
+            if (source == null || JsonValue.class.isInstance(source)) {
+                return source;
+            }
+            if (Map.class.isInstance(source)) {
+                return values((Map<String, Object>) source);
+            }
+            if (List.class.isInstance(source)) {
+                return list((List<Object>) source, this::value);
+            }
+            return source;
+        }
+
+        private Map<String, Object> values(final Map<String, Object> source) {
+            return map(source, this::value);
+        }
+
+        private static <T> void set(final T value, final Consumer<T> setter) {
+            if (value != null) {
+                setter.accept(value);
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.apache.geronimo.microprofile.openapi.impl.model.LinkImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.MediaTypeImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.OAuthFlowImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.OAuthFlowsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.OperationImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.ParameterImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.PathItemImpl;
@@ -143,16 +144,52 @@ import static java.util.stream.Collectors.toMap;
 public class AnnotationProcessor {
     private final GeronimoOpenAPIConfig config;
     private final SchemaProcessor schemaProcessor;
+    private final StringPool strings;
     private final NamingStrategy operationNamingStrategy;
     private final JsonReaderFactory jsonReaderFactory;
-    private final Collection<String> operationId = new HashSet<>();
+    private final Collection<String> operationId;
+
+    // only for forks, see ForkedClass#mergeInto
+    private final Collection<String> operationIdLookups;
+    private final Collection<String> tagLookups;
 
     public AnnotationProcessor(final GeronimoOpenAPIConfig config, final NamingStrategy strategy,
                                final JsonReaderFactory factory) {
+        this(config, strategy, factory, null);
+    }
+
+    public AnnotationProcessor(final GeronimoOpenAPIConfig config, final NamingStrategy strategy,
+                               final JsonReaderFactory factory, final SchemaCache schemaCache) {
         this.config = config;
-        this.schemaProcessor = new SchemaProcessor();
+        this.strings = new StringPool();
+        this.schemaProcessor = new SchemaProcessor(schemaCache, strings);
         this.operationNamingStrategy = strategy;
         this.jsonReaderFactory = factory != null ? factory : Json.createReaderFactory(emptyMap());
+        this.operationId = new HashSet<>();
+        this.operationIdLookups = null;
+        this.tagLookups = null;
+    }
+
+    private AnnotationProcessor(final Fork fork) {
+        this.config = fork.source.config;
+        this.schemaProcessor = fork.schemaProcessor.fork();
+        this.strings = fork.source.strings;
+        this.operationNamingStrategy = fork.source.operationNamingStrategy;
+        this.jsonReaderFactory = fork.source.jsonReaderFactory;
+        this.operationId = new HashSet<>(fork.operationId);
+        this.operationIdLookups = new HashSet<>();
+        this.tagLookups = new HashSet<>();
+    }
+
+    /**
+     * Captures the current state to process classes concurrently (see {@link Fork#processClass}),
+     * the forked classes must then be merged back in the processing order with {@link ForkedClass#mergeInto}.
+     *
+     * @param api the model classes will be merged into.
+     * @return the snapshot to fork the processing from.
+     */
+    public Fork fork(final OpenAPI api) {
+        return new Fork(this, api);
     }
 
     public void processClass(final String basePath, final OpenAPI api, final AnnotatedElement annotatedType,
@@ -164,7 +201,7 @@ public class AnnotationProcessor {
 
         Stream.of(annotatedType.getAnnotationsByType(Tag.class))
                 .map(t -> of(t.ref()).filter(it -> !it.isEmpty())
-                        .flatMap(ref -> api.getTags().stream().filter(it -> it.getName().equals(ref)).findFirst())
+                        .flatMap(ref -> findTag(api, ref))
                         .orElseGet(() -> mapTag(t))).forEach(api::addTag);
 
         Stream.of(annotatedType.getAnnotationsByType(SecurityScheme.class))
@@ -178,7 +215,7 @@ public class AnnotationProcessor {
                 m -> Stream.of(m.getAnnotations()).anyMatch(it -> it.annotationType().getName().startsWith("javax.ws.rs.")))
                 .forEach(m -> {
                     final Path nestedPath = m.getAnnotation(Path.class);
-                    final String completePath = buildPath(basePath, path, nestedPath);
+                    final String completePath = strings.intern(buildPath(basePath, path, nestedPath));
                     if (m.isAnnotationPresent(GET.class)) {
                         getPathItem(api, completePath).setGET(buildOperation(api, m, annotatedType, "GET", completePath));
                     } else if (m.isAnnotationPresent(PUT.class)) {
@@ -448,16 +485,30 @@ public class AnnotationProcessor {
         return operation;
     }
 
+    private Optional<org.eclipse.microprofile.openapi.models.tags.Tag> findTag(final OpenAPI api, final String ref) {
+        if (tagLookups != null) {
+            tagLookups.add(ref);
+        }
+        return api.getTags().stream().filter(it -> it.getName().equals(ref)).findFirst();
+    }
+
     private String createOperationId(final AnnotatedMethodElement m, final String httpVerb, final String path) {
         String name = operationNamingStrategy.name(new NamingStrategy.Context(m, httpVerb, path));
         int idx = 1;
-        while (!operationId.add(name)) {
+        while (!addOperationId(name)) {
             name = name + "_" + idx;
             idx++;
         }
         return name;
     }
 
+    private boolean addOperationId(final String name) {
+        if (operationIdLookups != null) {
+            operationIdLookups.add(name);
+        }
+        return operationId.add(name);
+    }
+
     private boolean findAnnotatedParameterByName(final org.eclipse.microprofile.openapi.models.parameters.Parameter it,
                                                  final AnnotatedTypeElement mp) {
         final String expected = ofNullable(it.getName()).orElse("");
@@ -918,7 +969,7 @@ public class AnnotationProcessor {
             impl.required(headerRef.getRequired());
             impl.schema(headerRef.getSchema());
             impl.style(headerRef.getStyle());
-            impl.ref(ref.startsWith("#") ? ref : ("#/components/headers/" + ref));
+            impl.ref(ref.startsWith("#") ? ref : strings.intern("#/components/headers/" + ref));
             return impl;
         }
         final HeaderImpl impl = new HeaderImpl();
@@ -1195,6 +1246,110 @@ public class AnnotationProcessor {
         operationId.clear();
     }
 
+    public static class Fork {
+        private final AnnotationProcessor source;
+        private final SchemaProcessor schemaProcessor;
+        private final Collection<String> operationId;
+        private final List<org.eclipse.microprofile.openapi.models.tags.Tag> tags;
+        private final boolean hasComponents;
+        private final Map<String, org.eclipse.microprofile.openapi.models.headers.Header> headers;
+
+        private Fork(final AnnotationProcessor source, final OpenAPI api) {
+            this.source = source;
+            this.schemaProcessor = source.schemaProcessor.snapshot();
+            this.operationId = new HashSet<>(source.operationId);
+            this.tags = ofNullable(api.getTags()).map(ArrayList::new).orElse(null);
+            this.hasComponents = api.getComponents() != null;
+            this.headers = hasComponents ? ofNullable(api.getComponents().getHeaders()).map(HashMap::new).orElse(null) : null;
+        }
+
+        // thread safe, processes the class in an isolated model
+        public ForkedClass processClass(final String basePath, final AnnotatedElement annotatedType,
+                                        final Stream<AnnotatedMethodElement> methods) {
+            final AnnotationProcessor processor = new AnnotationProcessor(this);
+            final OpenAPIImpl partial = new OpenAPIImpl();
+            partial.setTags(tags);
+            final int knownTags = tags == null ? 0 : partial.getTags().size();
+            if (hasComponents) { // only headers are read, others are only written
+                partial.components(new ComponentsImpl().headers(headers));
+            }
+            try {
+                processor.processClass(basePath, partial, annotatedType, methods);
+                return new ForkedClass(this, processor, partial, knownTags, null);
+            } catch (final RuntimeException re) { // sequential processing will decide if it is a real error
+                return new ForkedClass(this, processor, partial, knownTags, re);
+            }
+        }
+    }
+
+    public static class ForkedClass {
+        private final Fork fork;
+        private final AnnotationProcessor processor;
+        private final OpenAPI partial;
+        private final int knownTags;
+        private final RuntimeException error;
+
+        private ForkedClass(final Fork fork, final AnnotationProcessor processor, final OpenAPI partial,
+                            final int knownTags, final RuntimeException error) {
+            this.fork = fork;
+            this.processor = processor;
+            this.partial = partial;
+            this.knownTags = knownTags;
+            this.error = error;
+        }
+
+        /**
+         * Merges the partial model if it is exactly what a sequential processing would have produced,
+         * i.e. it did not depend on anything merged after the fork was created.
+         * Must be called in the processing order on the thread owning the processor the fork comes from.
+         *
+         * @param api the model to merge the class into.
+         * @return false if nothing was merged and the class must be processed again sequentially.
+         */
+        public boolean mergeInto(final OpenAPI api) {
+            final AnnotationProcessor target = fork.source;
+            if (error != null || !isMergeableInto(target, api)) {
+                return false;
+            }
+
+            target.operationId.addAll(processor.operationId);
+            processor.schemaProcessor.mergeInto(target.schemaProcessor);
+
+            if (api.getPaths() == null) {
+                api.paths(new PathsImpl());
+            }
+            partial.getPaths().forEach(api.getPaths()::addPathItem);
+
+            final List<org.eclipse.microprofile.openapi.models.tags.Tag> tags = partial.getTags();
+            if (tags != null) {
+                tags.stream().skip(knownTags).forEach(api::addTag);
+            }
+
+            final org.eclipse.microprofile.openapi.models.Components components = partial.getComponents();
+            if (components != null) {
+                final org.eclipse.microprofile.openapi.models.Components targetComponents = target.getOrCreateComponents(api);
+                ofNullable(components.getSchemas()).ifPresent(it -> it.forEach(targetComponents::addSchema));
+                ofNullable(components.getSecuritySchemes()).ifPresent(it -> it.forEach(targetComponents::addSecurityScheme));
+            }
+            return true;
+        }
+
+        private boolean isMergeableInto(final AnnotationProcessor target, final OpenAPI api) {
+            if (processor.operationIdLookups.stream().anyMatch(it -> target.operationId.contains(it) && !fork.operationId.contains(it))) {
+                return false;
+            }
+            if (api.getPaths() != null && partial.getPaths().keySet().stream().anyMatch(api.getPaths()::containsKey)) {
+                return false;
+            }
+            if (!processor.tagLookups.isEmpty() && api.getTags() != null && api.getTags().stream()
+                    .filter(it -> fork.tags == null || !fork.tags.contains(it))
+                    .anyMatch(it -> processor.tagLookups.contains(it.getName()))) {
+                return false;
+            }
+            return processor.schemaProcessor.isMergeableInto(target.schemaProcessor);
+        }
+    }
+
     private static class TagAnnotation implements Tag {
         private final String ref;
 
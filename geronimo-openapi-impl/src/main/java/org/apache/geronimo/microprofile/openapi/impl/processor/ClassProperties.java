@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.processor;
+
+import static java.beans.Introspector.decapitalize;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.ofNullable;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.json.bind.annotation.JsonbProperty;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+// the visible properties of a class (fields then getters, for each class of the hierarchy) with their resolved name,
+// computed once per class since reflection lookups dominate the schema mapping of large models
+final class ClassProperties {
+    private final List<Property> properties;
+
+    private ClassProperties(final List<Property> properties) {
+        this.properties = unmodifiableList(properties);
+    }
+
+    List<Property> getProperties() {
+        return properties;
+    }
+
+    static ClassProperties introspect(final Class<?> type) {
+        final List<Property> properties = new ArrayList<>();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            final Map<String, Method> accessors = findAccessors(current);
+            for (final Field field : current.getDeclaredFields()) {
+                if (isVisible(field, field.getModifiers())) {
+                    properties.add(new Property(
+                            findFieldName(field, accessors), field, field.getGenericType(), isRequired(field), true));
+                }
+            }
+            for (final Method method : current.getDeclaredMethods()) {
+                final String name = method.getName();
+                if (isVisible(method, method.getModifiers()) &&
+                        (name.startsWith("get") || name.startsWith("is")) && name.length() > 2) {
+                    properties.add(new Property(
+                            findMethodName(method), method, method.getGenericReturnType(), isRequired(method), false));
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return new ClassProperties(properties);
+    }
+
+    // public no-arg methods by name, what getMethod(name) would return
+    private static Map<String, Method> findAccessors(final Class<?> type) {
+        final Map<String, Method> accessors = new HashMap<>();
+        for (final Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0) {
+                accessors.merge(method.getName(), method, (a, b) ->
+                        a.getReturnType().isAssignableFrom(b.getReturnType()) && !b.isBridge() ? b : a);
+            }
+        }
+        return accessors;
+    }
+
+    private static boolean isVisible(final AnnotatedElement elt, final int modifiers) {
+        final boolean explicit = elt.isAnnotationPresent(Schema.class);
+        if (!explicit || !elt.getAnnotation(Schema.class).hidden()) {
+            return (!Modifier.isPrivate(modifiers) || explicit) && !Modifier.isStatic(modifiers);
+        }
+        return false;
+    }
+
+    private static boolean isRequired(final AnnotatedElement element) {
+        return element.isAnnotationPresent(Schema.class) && element.getAnnotation(Schema.class).required();
+    }
+
+    private static String findFieldName(final Field f, final Map<String, Method> accessors) {
+        return findSchemaName(f)
+                .orElseGet(() -> {
+                    if (f.isAnnotationPresent(JsonbProperty.class)) {
+                        return f.getAnnotation(JsonbProperty.class).value();
+                    }
+                    final String fName = f.getName();
+                    final String subName = Character.toUpperCase(fName.charAt(0))
+                            + (fName.length() > 1 ? fName.substring(1) : "");
+                    final Method getter = accessors.get("get" + subName);
+                    if (getter != null) {
+                        return ofNullable(getter.getAnnotation(JsonbProperty.class)).map(JsonbProperty::value).orElse(fName);
+                    }
+                    if (boolean.class == f.getType()) {
+                        final Method isser = accessors.get("is" + subName);
+                        if (isser != null && isser.isAnnotationPresent(JsonbProperty.class)) {
+                            return isser.getAnnotation(JsonbProperty.class).value();
+                        }
+                    }
+                    return fName;
+                });
+    }
+
+    private static String findMethodName(final Method m) {
+        return findSchemaName(m)
+                .orElseGet(() -> {
+                    if (m.isAnnotationPresent(JsonbProperty.class)) {
+                        return m.getAnnotation(JsonbProperty.class).value();
+                    }
+                    final String name = m.getName();
+                    if (name.startsWith("get")) {
+                        return decapitalize(name.substring("get".length()));
+                    }
+                    if (name.startsWith("is")) {
+                        return decapitalize(name.substring("is".length()));
+                    }
+                    return decapitalize(name);
+                });
+    }
+
+    private static Optional<String> findSchemaName(final AnnotatedElement m) {
+        return ofNullable(m.getAnnotation(Schema.class))
+                .map(Schema::name)
+                .filter(it -> !it.isEmpty());
+    }
+
+    static final class Property {
+        private final String name;
+        private final AnnotatedElement element;
+        private final Type type;
+        private final boolean required;
+        private final boolean field;
+
+        private Property(final String name, final AnnotatedElement element, final Type type,
+                         final boolean required, final boolean field) {
+            this.name = name;
+            this.element = element;
+            this.type = type;
+            this.required = required;
+            this.field = field;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        AnnotatedElement getElement() {
+            return element;
+        }
+
+        Type getType() {
+            return type;
+        }
+
+        boolean isRequired() {
+            return required;
+        }
+
+        // a field overrides a property with the same name, a getter does not
+        boolean isField() {
+            return field;
+        }
+    }
+}
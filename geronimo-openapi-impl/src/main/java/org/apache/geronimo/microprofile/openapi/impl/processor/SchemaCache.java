@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.processor;
+
+import static java.util.Optional.ofNullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+// schemas of the reusable object types shared by the processors of a classloader (applications, rebuilds),
+// a processor reuses a schema graph only if the component names it would use are the same
+@Vetoed
+public class SchemaCache {
+    // values are weak: the cache lives as long as a processor owner (the CDI extension for instance) holds it
+    private static final Map<ClassLoader, Reference<SchemaCache>> CACHES = new WeakHashMap<>();
+
+    private final ConcurrentMap<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ClassProperties> classProperties = new ConcurrentHashMap<>();
+
+    public static SchemaCache forLoader(final ClassLoader loader) {
+        synchronized (CACHES) {
+            final SchemaCache existing = ofNullable(CACHES.get(loader)).map(Reference::get).orElse(null);
+            if (existing != null) {
+                return existing;
+            }
+            final SchemaCache cache = new SchemaCache();
+            CACHES.put(loader, new WeakReference<>(cache));
+            return cache;
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        classProperties.clear();
+    }
+
+    ConcurrentMap<Class<?>, ClassProperties> getClassProperties() {
+        return classProperties;
+    }
+
+    Entry get(final Class<?> type) {
+        return entries.get(type);
+    }
+
+    void put(final Class<?> type, final Entry entry) {
+        entries.putIfAbsent(type, entry);
+    }
+
+    static class Entry {
+        private final Schema schema;
+        private final String name;
+        private final Map<Class<?>, String> references; // reusable types referenced by the schema and their component name
+
+        Entry(final Schema schema, final String name, final Map<Class<?>, String> references) {
+            this.schema = schema;
+            this.name = name;
+            this.references = references;
+        }
+
+        Schema getSchema() {
+            return schema;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Map<Class<?>, String> getReferences() {
+            return references;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.apache.geronimo.microprofile.openapi.impl.processor;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.DiscriminatorImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.copy.OpenAPICopier;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.DiscriminatorMapping;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -31,12 +32,8 @@ import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
 import javax.json.JsonString;
 import javax.json.JsonValue;
-import javax.json.bind.annotation.JsonbProperty;
 import java.io.StringReader;
 import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
@@ -46,14 +43,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import static java.beans.Introspector.decapitalize;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.of;
@@ -62,13 +61,31 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class SchemaProcessor {
-    private final Map<Type, org.eclipse.microprofile.openapi.models.media.Schema> cache = new HashMap<>();
-    private final Map<Class<?>, String> providedRefs = new HashMap<>();
+    private static final OpenAPICopier COPIER = new OpenAPICopier();
+
+    private final Map<Type, org.eclipse.microprofile.openapi.models.media.Schema> cache;
+    private final Map<Class<?>, String> providedRefs;
+    private final Map<String, Class<?>> refOwners; // void.class when several types use the same name
+    private final SchemaCache sharedCache;
+    private final Map<Class<?>, ClassProperties> classProperties;
     private final Class<?> persistenceCapable;
     private final Class<?> responseType;
     private final JsonReaderFactory jsonReaderFactory;
+    private final StringPool strings;
+
+    // only for forks, what was looked up and not found, if the main processor knows it now the fork output is not reusable
+    private final Collection<Type> cacheMisses;
+    private final Collection<Class<?>> refMisses;
 
     public SchemaProcessor() {
+        this(null);
+    }
+
+    public SchemaProcessor(final SchemaCache sharedCache) {
+        this(sharedCache, new StringPool());
+    }
+
+    public SchemaProcessor(final SchemaCache sharedCache, final StringPool strings) {
         final ClassLoader loader = Thread.currentThread().getContextClassLoader();
         Class<?> pc = null;
         try {
@@ -85,6 +102,50 @@ public class SchemaProcessor {
         jsonReaderFactory = Json.createReaderFactory(emptyMap());
         persistenceCapable = pc;
         this.responseType = responseType;
+        this.cache = new ConcurrentHashMap<>();
+        this.providedRefs = new ConcurrentHashMap<>();
+        this.refOwners = new ConcurrentHashMap<>();
+        this.sharedCache = sharedCache;
+        this.strings = strings;
+        this.classProperties = sharedCache != null ? sharedCache.getClassProperties() : new ConcurrentHashMap<>();
+        this.cacheMisses = null;
+        this.refMisses = null;
+    }
+
+    private SchemaProcessor(final SchemaProcessor source, final boolean recording) {
+        this.jsonReaderFactory = source.jsonReaderFactory;
+        this.persistenceCapable = source.persistenceCapable;
+        this.responseType = source.responseType;
+        this.cache = new ConcurrentHashMap<>(source.cache);
+        this.providedRefs = new ConcurrentHashMap<>(source.providedRefs);
+        this.refOwners = new ConcurrentHashMap<>(source.refOwners);
+        this.sharedCache = source.sharedCache;
+        this.strings = source.strings;
+        this.classProperties = source.classProperties;
+        this.cacheMisses = recording ? new HashSet<>() : null;
+        this.refMisses = recording ? new HashSet<>() : null;
+    }
+
+    // copy of the current state, must not be used directly but only through fork()
+    SchemaProcessor snapshot() {
+        return new SchemaProcessor(this, false);
+    }
+
+    // processor working on a copy of a snapshot, can be used concurrently to the processor the snapshot comes from
+    SchemaProcessor fork() {
+        return new SchemaProcessor(this, true);
+    }
+
+    // true if the fork did not depend on a type the target processed after the snapshot
+    boolean isMergeableInto(final SchemaProcessor target) {
+        return cacheMisses.stream().noneMatch(target.cache::containsKey)
+                && refMisses.stream().noneMatch(target.providedRefs::containsKey);
+    }
+
+    void mergeInto(final SchemaProcessor target) {
+        cache.forEach(target.cache::putIfAbsent);
+        providedRefs.forEach(target.providedRefs::putIfAbsent);
+        refOwners.forEach((name, type) -> target.refOwners.merge(name, type, this::mergeOwner));
     }
 
     public org.eclipse.microprofile.openapi.models.media.Schema mapSchemaFromClass(
@@ -93,20 +154,36 @@ public class SchemaProcessor {
         if (cached != null) {
             return new SchemaImpl().type(cached.getType()).ref(toRef(Class.class.cast(model), null));
         }
+        if (cacheMisses != null) {
+            cacheMisses.add(model);
+        }
         final SchemaImpl schema = new SchemaImpl();
         fillSchema(components, model, schema, null);
         return schema;
     }
 
     private String toRef(final Class<?> model, final String providedRef) {
-        return "#/components/schemas/" + toRefName(model, providedRef);
+        return strings.schemaRef(toRefName(model, providedRef));
     }
 
     // todo: introduce naming strategy? simplename can conflict so this is safer but ugly
     private String toRefName(final Class<?> model, final String providedRef) {
-        return providedRefs.computeIfAbsent(
-                model, k -> ofNullable(providedRef)
-                        .orElseGet(() -> k.getName().replace('.', '_').replace('$', '_')));
+        if (refMisses != null && !providedRefs.containsKey(model)) {
+            refMisses.add(model);
+        }
+        return providedRefs.computeIfAbsent(model, k -> {
+            final String name = ofNullable(providedRef).orElseGet(() -> defaultRefName(k));
+            refOwners.merge(name, k, this::mergeOwner);
+            return name;
+        });
+    }
+
+    private String defaultRefName(final Class<?> model) {
+        return strings.intern(model.getName().replace('.', '_').replace('$', '_'));
+    }
+
+    private Class<?> mergeOwner(final Class<?> current, final Class<?> other) {
+        return current == other ? current : void.class;
     }
 
     public void fillSchema(
@@ -216,57 +293,144 @@ public class SchemaProcessor {
         if (existingSchema != null) {
             return existingSchema;
         }
+        if (sharedCache != null) {
+            final org.eclipse.microprofile.openapi.models.media.Schema shared = reuseSharedSchema(components, from, providedRef);
+            if (shared != null) {
+                return shared;
+            }
+        }
 
+        // in-flight guard: the type is claimed before being built so a single thread builds it,
+        // others threads and cycles only need a reference which is usable as soon as the type is set,
+        // the claimed schema is still being filled so the components are complete once all the mappings returned
         final SchemaImpl schema = new SchemaImpl();
+        schema.type(org.eclipse.microprofile.openapi.models.media.Schema.SchemaType.OBJECT);
+        final org.eclipse.microprofile.openapi.models.media.Schema concurrentSchema = cache.putIfAbsent(from, schema);
+        if (concurrentSchema != null) {
+            return concurrentSchema;
+        }
+        if (cacheMisses != null) {
+            cacheMisses.add(from);
+        }
+
         ofNullable(from.getAnnotation(Schema.class)).ifPresent(
             s -> sets(components, Schema.class.cast(s), schema, null));
 
         schema.type(org.eclipse.microprofile.openapi.models.media.Schema.SchemaType.OBJECT);
 
-        if (cache.putIfAbsent(from, schema) == null) {
-            components.get().addSchema(toRefName(from, providedRef), schema);
-        }
+        register(components, toRefName(from, providedRef), schema);
 
         final Predicate<String> ignored = createIgnorePredicate(from);
 
         schema.properties(new HashMap<>());
-        Class<?> current = from;
-        while (current != null && current != Object.class) {
-            Stream.of(current.getDeclaredFields())
-                .filter(it -> isVisible(it, it.getModifiers()))
-                .peek(f -> handleRequired(schema, f, () -> findFieldName(f)))
-                .forEach(f -> {
-                    final String fieldName = findFieldName(f);
-                    if (!ignored.test(fieldName)) {
-                        schema.getProperties().put(fieldName, mapField(components, f, f.getGenericType()));
-                    }
-                });
-            Stream.of(current.getDeclaredMethods())
-                .filter(it -> isVisible(it, it.getModifiers()))
-                .filter(it -> (it.getName().startsWith("get") || it.getName().startsWith("is")) && it.getName().length() > 2)
-                .peek(m -> handleRequired(schema, m, () -> findMethodName(m)))
-                .forEach(m -> {
-                    final String key = findMethodName(m);
-                    if (!ignored.test(key) && !schema.getProperties().containsKey(key)) {
-                        schema.getProperties().put(key, mapField(components, m, m.getGenericReturnType()));
-                    }
-                });
-            current = current.getSuperclass();
+        for (final ClassProperties.Property property : classProperties.computeIfAbsent(from, ClassProperties::introspect).getProperties()) {
+            final String name = property.getName();
+            if (property.isRequired()) {
+                addRequired(schema, name);
+            }
+            if (!ignored.test(name) && (property.isField() || !schema.getProperties().containsKey(name))) {
+                schema.getProperties().put(name, mapField(components, property.getElement(), property.getType()));
+            }
+        }
+        if (sharedCache != null) {
+            final Map<Class<?>, String> references = new LinkedHashMap<>();
+            if (collectReferences(schema, references)) {
+                // a copy since the built schema belongs to this model which can be modified
+                sharedCache.put(from, new SchemaCache.Entry(COPIER.copy(schema), providedRefs.get(from), references));
+            }
         }
         return schema;
     }
 
-    private Predicate<String> createIgnorePredicate(final Class from) {
-        return persistenceCapable != null && persistenceCapable.isAssignableFrom(from) ?
-                v -> v.startsWith("pc") : v -> false;
+    // the components can be shared by the threads mapping types concurrently (LinkedHashMap), the writes are
+    // serialized on them so another writer of the same components must synchronize on it during the mapping
+    private void register(final Supplier<org.eclipse.microprofile.openapi.models.Components> components,
+                          final String name, final org.eclipse.microprofile.openapi.models.media.Schema schema) {
+        final org.eclipse.microprofile.openapi.models.Components target = components.get();
+        synchronized (target) {
+            target.addSchema(name, schema);
+        }
+    }
+
+    // registers the schema graph another processor built for this type if this processor names its types the same way
+    private org.eclipse.microprofile.openapi.models.media.Schema reuseSharedSchema(
+            final Supplier<org.eclipse.microprofile.openapi.models.Components> components,
+            final Class<?> from, final String providedRef) {
+        final SchemaCache.Entry entry = sharedCache.get(from);
+        if (entry == null || !entry.getName().equals(ofNullable(providedRefs.get(from))
+                .orElseGet(() -> ofNullable(providedRef).orElseGet(() -> defaultRefName(from))))) {
+            return null;
+        }
+        final Map<Class<?>, SchemaCache.Entry> graph = new LinkedHashMap<>(); // same order than a build
+        if (!collectSharedGraph(from, entry, graph)) {
+            return null;
+        }
+        graph.forEach((type, it) -> {
+            // each model gets its own copy (cheaper than a new introspection), a mutable model must not alter the others
+            final org.eclipse.microprofile.openapi.models.media.Schema copy = COPIER.copy(it.getSchema());
+            if (cache.putIfAbsent(type, copy) == null) {
+                if (cacheMisses != null) {
+                    cacheMisses.add(type);
+                }
+                register(components, toRefName(type, it.getName()), copy);
+            }
+        });
+        return cache.get(from);
     }
 
-    private boolean isVisible(final AnnotatedElement elt, final int modifiers) {
-        final boolean explicit = elt.isAnnotationPresent(Schema.class);
-        if (!explicit || !elt.getAnnotation(Schema.class).hidden()) {
-            return (!Modifier.isPrivate(modifiers) || elt.isAnnotationPresent(Schema.class)) && !Modifier.isStatic(modifiers);
+    private boolean collectSharedGraph(final Class<?> type, final SchemaCache.Entry entry,
+                                       final Map<Class<?>, SchemaCache.Entry> graph) {
+        graph.put(type, entry);
+        for (final Map.Entry<Class<?>, String> reference : entry.getReferences().entrySet()) {
+            final Class<?> referenced = reference.getKey();
+            final String localName = ofNullable(graph.get(referenced)).map(SchemaCache.Entry::getName)
+                    .orElseGet(() -> providedRefs.get(referenced));
+            if (localName != null) {
+                if (!localName.equals(reference.getValue())) {
+                    return false;
+                }
+                if (graph.containsKey(referenced) || cache.containsKey(referenced)) {
+                    continue;
+                }
+            }
+            final SchemaCache.Entry referencedEntry = sharedCache.get(referenced);
+            if (referencedEntry == null || !referencedEntry.getName().equals(reference.getValue())
+                    || !collectSharedGraph(referenced, referencedEntry, graph)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the reusable types a schema points to, false if a reference can't be attributed to a single type
+    private boolean collectReferences(final org.eclipse.microprofile.openapi.models.media.Schema schema,
+                                      final Map<Class<?>, String> references) {
+        if (schema == null) {
+            return true;
+        }
+        final String ref = schema.getRef();
+        if (ref != null && ref.startsWith("#/components/schemas/")) {
+            final String name = ref.substring("#/components/schemas/".length());
+            final Class<?> owner = refOwners.get(name);
+            if (owner == void.class) {
+                return false;
+            }
+            if (owner != null) {
+                references.putIfAbsent(owner, name);
+            }
         }
-        return false;
+        return collectReferences(schema.getItems(), references)
+                && collectReferences(schema.getNot(), references)
+                && collectReferences(schema.getAdditionalPropertiesSchema(), references)
+                && Stream.of(schema.getProperties(), schema.getAllOf(), schema.getAnyOf(), schema.getOneOf())
+                    .filter(Objects::nonNull)
+                    .flatMap(it -> Map.class.isInstance(it) ? Map.class.cast(it).values().stream() : Collection.class.cast(it).stream())
+                    .allMatch(it -> collectReferences(org.eclipse.microprofile.openapi.models.media.Schema.class.cast(it), references));
+    }
+
+    private Predicate<String> createIgnorePredicate(final Class from) {
+        return persistenceCapable != null && persistenceCapable.isAssignableFrom(from) ?
+                v -> v.startsWith("pc") : v -> false;
     }
 
     private Type unwrapType(final Type rawModel) {
@@ -281,15 +445,10 @@ public class SchemaProcessor {
         return Date.class == model || model.getTypeName().startsWith("java.time.") || Class.class == model || Type.class == model;
     }
 
-    private void handleRequired(final org.eclipse.microprofile.openapi.models.media.Schema schema,
-                                final AnnotatedElement element, final Supplier<String> nameSupplier) {
-        if (!element.isAnnotationPresent(Schema.class) || !element.getAnnotation(Schema.class).required()) {
-            return;
-        }
+    private void addRequired(final org.eclipse.microprofile.openapi.models.media.Schema schema, final String name) {
         if (schema.getRequired() == null) {
             schema.required(new ArrayList<>());
         }
-        final String name = nameSupplier.get();
         if (!schema.getRequired().contains(name)) {
             schema.getRequired().add(name);
         }
@@ -309,60 +468,6 @@ public class SchemaProcessor {
         });
     }
 
-    private String findFieldName(final Field f) {
-        return findSchemaName(f)
-                .orElseGet(() -> {
-                    if (f.isAnnotationPresent(JsonbProperty.class)) {
-                        return f.getAnnotation(JsonbProperty.class).value();
-                    }
-                    // getter
-                    final String fName = f.getName();
-                    final String subName = Character.toUpperCase(fName.charAt(0))
-                            + (fName.length() > 1 ? fName.substring(1) : "");
-                    try {
-                        final Method getter = f.getDeclaringClass().getMethod("get" + subName);
-                        if (getter.isAnnotationPresent(JsonbProperty.class)) {
-                            return getter.getAnnotation(JsonbProperty.class).value();
-                        }
-                    } catch (final NoSuchMethodException e) {
-                        if (boolean.class == f.getType()) {
-                            try {
-                                final Method isser = f.getDeclaringClass().getMethod("is" + subName);
-                                if (isser.isAnnotationPresent(JsonbProperty.class)) {
-                                    return isser.getAnnotation(JsonbProperty.class).value();
-                                }
-                            } catch (final NoSuchMethodException e2) {
-                                // no-op
-                            }
-                        }
-                    }
-                    return fName;
-                });
-    }
-
-    private String findMethodName(final Method m) {
-        return findSchemaName(m)
-                .orElseGet(() -> {
-                    if (m.isAnnotationPresent(JsonbProperty.class)) {
-                        return m.getAnnotation(JsonbProperty.class).value();
-                    }
-                    final String name = m.getName();
-                    if (name.startsWith("get")) {
-                        return decapitalize(name.substring("get".length()));
-                    }
-                    if (name.startsWith("is")) {
-                        return decapitalize(name.substring("is".length()));
-                    }
-                    return decapitalize(name);
-                });
-    }
-
-    private Optional<String> findSchemaName(final AnnotatedElement m) {
-        return ofNullable(m.getAnnotation(Schema.class))
-                .map(Schema::name)
-                .filter(it -> !it.isEmpty());
-    }
-
     private void mergeSchema(final Supplier<Components> components,
                              final org.eclipse.microprofile.openapi.models.media.Schema impl,
                              final Schema schema, final Type type) {
@@ -508,7 +613,7 @@ public class SchemaProcessor {
             final org.eclipse.microprofile.openapi.models.media.Schema impl,
             final String providedRef) {
         if (!schema.ref().isEmpty()) {
-            impl.ref(resolveSchemaRef(schema.ref()));
+            impl.ref(strings.schemaRef(schema.ref()));
         } else {
             if (schema.implementation() != Void.class) {
                 final boolean array = schema.type() == SchemaType.ARRAY;
@@ -524,13 +629,6 @@ public class SchemaProcessor {
         }
     }
 
-    private String resolveSchemaRef(final String ref) {
-        if (ref.startsWith("#")) {
-            return ref;
-        }
-        return "#/components/schemas/" + ref;
-    }
-
     private BigDecimal toBigDecimal(final String minimum) {
         return minimum.isEmpty() ? null : new BigDecimal(minimum);
     }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.processor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.inject.Vetoed;
+
+// dedupes the strings a model build computes again and again (refs, paths...) so the model retains one instance
+// of each and the maps keyed by them compare identical instances, it is shared by the forks of a processor
+@Vetoed
+public class StringPool {
+    private static final String SCHEMAS = "#/components/schemas/";
+
+    private final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> schemaRefs = new ConcurrentHashMap<>();
+
+    public String intern(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final String existing = values.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    // a ref used at each use site of a type, avoids to concatenate it each time
+    public String schemaRef(final String name) {
+        if (name.startsWith("#")) {
+            return intern(name);
+        }
+        return schemaRefs.computeIfAbsent(name, n -> intern(SCHEMAS + n));
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -20,37 +20,47 @@ import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedMethodEl
 import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedTypeElement;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
-
 public class MethodElement implements AnnotatedMethodElement {
     private static final Method[] NO_METHOD = new Method[0];
+    private static final Annotation[] NO_ANNOTATION = new Annotation[0];
 
     private final Method[] delegates;
-    private Annotation[] annotations;
+    // merged once, the first delegate declaring an annotation type wins (class method then interfaces)
+    private final Map<Class<? extends Annotation>, Annotation> annotations;
+    private final Annotation[] annotationArray;
+    private final AnnotatedTypeElement[] parameters;
 
     public MethodElement(final Method method) {
         final Collection<Method> methods = new LinkedList<>();
         methods.add(method);
         Stream.of(method.getDeclaringClass().getInterfaces())
-              .map(it -> {
-                  try {
-                      return it.getMethod(method.getName(), method.getParameterTypes());
-                  } catch (final NoSuchMethodException e) {
-                      return null;
-                  }
-              })
-              .filter(Objects::nonNull).forEach(methods::add);
+              .map(it -> findMethod(it, method))
+              .filter(Objects::nonNull)
+              .forEach(methods::add);
         this.delegates = methods.toArray(NO_METHOD);
+        this.annotations = mergeAnnotations(Stream.of(delegates).flatMap(it -> Stream.of(it.getAnnotations())));
+        this.annotationArray = annotations.values().toArray(NO_ANNOTATION);
+
+        // parsed once per delegate, Parameter#getAnnotations() would parse all parameters for each of them
+        final Annotation[][][] parameterAnnotations = Stream.of(delegates)
+                .map(Method::getParameterAnnotations)
+                .toArray(Annotation[][][]::new);
+        final Type[] types = method.getGenericParameterTypes();
+        this.parameters = IntStream.range(0, types.length)
+                .mapToObj(p -> new ParameterElement(types[p], mergeAnnotations(Stream.of(parameterAnnotations)
+                        .flatMap(it -> Stream.of(it[p])))))
+                .toArray(AnnotatedTypeElement[]::new);
     }
 
     @Override
@@ -70,49 +80,17 @@ public class MethodElement implements AnnotatedMethodElement {
 
     @Override
     public AnnotatedTypeElement[] getParameters() {
-        final java.lang.reflect.Parameter[] parameters = delegates[0].getParameters();
-        return IntStream.range(0, parameters.length)
-                    .mapToObj(p -> new AnnotatedTypeElement() {
-                        private Annotation[] annotations;
-
-                        @Override
-                        public Type getType() {
-                            return parameters[p].getParameterizedType();
-                        }
-
-                        @Override // todo:
-                        public <T extends Annotation> T getAnnotation(final Class<T> annotationClass) {
-                            return Stream.of(delegates)
-                                    .map(m -> m.getParameters()[p])
-                                    .filter(it -> it.isAnnotationPresent(annotationClass))
-                                    .map(it -> it.getAnnotation(annotationClass))
-                                    .findFirst()
-                                    .orElse(null);
-                        }
-
-                        @Override
-                        public Annotation[] getAnnotations() {
-                            return annotations == null ? annotations = mergeAnnotations(delegates) : annotations;
-                        }
-
-                        @Override
-                        public Annotation[] getDeclaredAnnotations() {
-                            return getAnnotations();
-                        }
-                    }).toArray(AnnotatedTypeElement[]::new);
+        return parameters.clone(); // the resolved parameters are cached, don't let callers alter them
     }
 
     @Override
     public <T extends Annotation> T getAnnotation(final Class<T> annotationClass) {
-        return Stream.of(delegates)
-                     .filter(d -> d.isAnnotationPresent(annotationClass))
-                     .map(d -> d.getAnnotation(annotationClass))
-                     .findFirst().orElse(null);
+        return annotationClass.cast(annotations.get(annotationClass));
     }
 
     @Override
     public Annotation[] getAnnotations() {
-        return annotations == null ? annotations = mergeAnnotations(delegates) : annotations;
+        return annotationArray;
     }
 
     @Override
@@ -120,12 +98,51 @@ public class MethodElement implements AnnotatedMethodElement {
         return getAnnotations();
     }
 
+    // same as getMethod() but without paying an exception for each interface not declaring the method
+    private static Method findMethod(final Class<?> itf, final Method method) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        return Stream.of(itf.getMethods())
+                .filter(it -> it.getName().equals(method.getName()) && it.getParameterCount() == parameterTypes.length)
+                .filter(it -> Arrays.equals(it.getParameterTypes(), parameterTypes))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Map<Class<? extends Annotation>, Annotation> mergeAnnotations(final Stream<Annotation> annotations) {
+        final Map<Class<? extends Annotation>, Annotation> merged = new LinkedHashMap<>();
+        annotations.forEach(a -> merged.putIfAbsent(a.annotationType(), a));
+        return merged;
+    }
 
-    private static Annotation[] mergeAnnotations(final AnnotatedElement... element) {
-        return Stream.of(element)
-                .flatMap(i -> Stream.of(i.getAnnotations()))
-                .collect(toMap(Annotation::annotationType, identity(), (a, b) -> a))
-                .values()
-                .toArray(new Annotation[0]);
+    private static class ParameterElement implements AnnotatedTypeElement {
+        private final Type type;
+        private final Map<Class<? extends Annotation>, Annotation> annotations;
+        private final Annotation[] annotationArray;
+
+        private ParameterElement(final Type type, final Map<Class<? extends Annotation>, Annotation> annotations) {
+            this.type = type;
+            this.annotations = annotations;
+            this.annotationArray = annotations.values().toArray(NO_ANNOTATION);
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(final Class<T> annotationClass) {
+            return annotationClass.cast(annotations.get(annotationClass));
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            return annotationArray;
+        }
+
+        @Override
+        public Annotation[] getDeclaredAnnotations() {
+            return getAnnotations();
+        }
     }
 }
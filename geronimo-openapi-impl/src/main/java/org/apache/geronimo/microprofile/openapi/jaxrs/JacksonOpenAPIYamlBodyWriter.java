@@ -22,10 +22,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.util.concurrent.atomic.AtomicReference;
 
 import javax.enterprise.context.Dependent;
-import javax.enterprise.inject.Vetoed;
 import javax.ws.rs.ConstrainedTo;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
@@ -34,6 +32,7 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.Provider;
 
 import org.apache.geronimo.microprofile.openapi.impl.loader.yaml.Yaml;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
 
 @Provider
 @Dependent
@@ -47,27 +46,10 @@ public class JacksonOpenAPIYamlBodyWriter<T> extends BaseOpenAPIYamlBodyWriter<T
                         final Annotation[] annotations, final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream)
             throws IOException, WebApplicationException {
-        Mapper.get().writeValue(entityStream, entity);
-    }
-
-    @Vetoed
-    private static class Mapper {
-        private static final AtomicReference<com.fasterxml.jackson.databind.ObjectMapper> REF = new AtomicReference<>();
-
-        private Mapper() {
-            // no-op
-        }
-
-        public static com.fasterxml.jackson.databind.ObjectMapper get() {
-            // for now we only support jackson, ok while this is actually only tck code ;)
-            com.fasterxml.jackson.databind.ObjectMapper mapper = REF.get();
-            if (mapper == null) {
-                mapper = Yaml.getObjectMapper();
-                if (!REF.compareAndSet(null, mapper)) {
-                    mapper = REF.get();
-                }
-            }
-            return mapper;
+        if (entity != null && entity.getClass() == OpenAPIImpl.class) {
+            Yaml.getOpenAPIWriter().writeValue(entityStream, entity);
+        } else {
+            Yaml.getObjectMapper().writeValue(entityStream, entity);
         }
     }
 }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.jaxrs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.enterprise.inject.Vetoed;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+// served form of a model, each media type (and view) is rendered once and reused until invalidate() is called
+@Vetoed
+public class OpenAPIDocument {
+    private static final int DEFAULT_MAX_VIEWS = 16;
+
+    private final OpenAPI model;
+    private volatile long lastModified;
+    private final ConcurrentMap<String, Representation> representations = new ConcurrentHashMap<>();
+    private final Map<String, View> views;
+
+    public OpenAPIDocument(final OpenAPI model) {
+        this(model, DEFAULT_MAX_VIEWS);
+    }
+
+    public OpenAPIDocument(final OpenAPI model, final int maxViews) {
+        this(model, seconds(System.currentTimeMillis()), maxViews);
+    }
+
+    private OpenAPIDocument(final OpenAPI model, final long lastModified, final int maxViews) {
+        this.model = model;
+        this.lastModified = lastModified;
+        this.views = new LinkedHashMap<String, View>(16, .75f, true) { // LRU
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, View> eldest) {
+                return size() > maxViews;
+            }
+        };
+    }
+
+    public OpenAPI getModel() {
+        return model;
+    }
+
+    public Date getLastModified() {
+        return new Date(lastModified);
+    }
+
+    // renderer can return null if the media type can't be rendered, nothing is cached then
+    public Representation getOrRender(final MediaType mediaType, final Function<MediaType, byte[]> renderer) {
+        final String key = mediaType.getType() + '/' + mediaType.getSubtype();
+        final Representation existing = representations.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return representations.computeIfAbsent(key, k -> {
+            final byte[] content = renderer.apply(mediaType);
+            return content == null ? null : new Representation(content);
+        });
+    }
+
+    // a view is a filtered model served as its own document, created once per key and kept while it is
+    // part of the most recently used ones
+    public OpenAPIDocument getOrCreateView(final String key, final Function<OpenAPI, OpenAPI> factory) {
+        final View view;
+        synchronized (views) {
+            view = views.computeIfAbsent(key, k -> new View());
+        }
+        return view.get(() -> new OpenAPIDocument(factory.apply(model), lastModified, 0));
+    }
+
+    // the content can change so Last-Modified moves forward too, at least one second since If-Modified-Since is in seconds
+    public void invalidate() {
+        synchronized (views) {
+            lastModified = Math.max(seconds(System.currentTimeMillis()), lastModified + 1000);
+            representations.clear();
+            views.clear();
+        }
+    }
+
+    // http dates are in seconds
+    private static long seconds(final long millis) {
+        return millis / 1000 * 1000;
+    }
+
+    // the document is built outside of the LRU lock so other keys are not blocked meanwhile
+    private static final class View {
+        private volatile OpenAPIDocument document;
+
+        private OpenAPIDocument get(final Supplier<OpenAPIDocument> factory) {
+            OpenAPIDocument current = document;
+            if (current == null) {
+                synchronized (this) {
+                    current = document;
+                    if (current == null) {
+                        current = factory.get();
+                        document = current;
+                    }
+                }
+            }
+            return current;
+        }
+    }
+
+    public static final class Representation {
+        private final byte[] content;
+        private final EntityTag entityTag;
+        private final String encoding;
+        private final ConcurrentMap<String, Representation> encoded;
+
+        private Representation(final byte[] content) {
+            this.content = content;
+            this.entityTag = new EntityTag(hash(content));
+            this.encoding = null;
+            this.encoded = new ConcurrentHashMap<>();
+        }
+
+        private Representation(final byte[] content, final EntityTag entityTag, final String encoding) {
+            this.content = content;
+            this.entityTag = entityTag;
+            this.encoding = encoding;
+            this.encoded = null;
+        }
+
+        public int getLength() {
+            return content.length;
+        }
+
+        public EntityTag getEntityTag() {
+            return entityTag;
+        }
+
+        // null for the identity representation
+        public String getEncoding() {
+            return encoding;
+        }
+
+        // compresses once (gzip or deflate), returns this representation if compressing does not make it smaller
+        public Representation encode(final String contentEncoding) {
+            if (encoded == null) {
+                return this;
+            }
+            final Representation existing = encoded.get(contentEncoding);
+            if (existing != null) {
+                return existing;
+            }
+            return encoded.computeIfAbsent(contentEncoding, e -> {
+                final byte[] compressed = compress(e);
+                return compressed.length < content.length ?
+                        new Representation(compressed, new EntityTag(entityTag.getValue() + '-' + e), e) : this;
+            });
+        }
+
+        public void writeTo(final OutputStream outputStream) throws IOException {
+            outputStream.write(content);
+        }
+
+        private byte[] compress(final String contentEncoding) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, content.length / 8));
+            try (final OutputStream stream = newCompressionStream(out, contentEncoding)) {
+                stream.write(content);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out.toByteArray();
+        }
+
+        // done once per representation so favor the size over the speed
+        private static OutputStream newCompressionStream(final OutputStream out, final String contentEncoding) throws IOException {
+            switch (contentEncoding) {
+                case "gzip":
+                    return new GZIPOutputStream(out) {
+                        {
+                            def.setLevel(Deflater.BEST_COMPRESSION);
+                        }
+                    };
+                case "deflate":
+                    return new DeflaterOutputStream(out, new Deflater(Deflater.BEST_COMPRESSION)) {
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                def.end();
+                            }
+                        }
+                    };
+                default:
+                    throw new IllegalArgumentException("Unsupported encoding: " + contentEncoding);
+            }
+        }
+
+        private static String hash(final byte[] content) {
+            try {
+                return Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -16,16 +16,23 @@
  */
 package org.apache.geronimo.microprofile.openapi.jaxrs;
 
+import static java.util.Locale.ROOT;
 import static javax.ws.rs.Priorities.USER;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.MediaType.WILDCARD_TYPE;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.container.ContainerRequestContext;
@@ -33,12 +40,17 @@ import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.PreMatching;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 import javax.ws.rs.ext.Providers;
 
 import org.apache.geronimo.microprofile.openapi.cdi.GeronimoOpenAPIExtension;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
 // theorically a jaxrs endpoint to benefit from jaxrs tooling and filters - but forbidden by TCK :(
@@ -50,19 +62,31 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
 public class OpenAPIFilter implements ContainerRequestFilter {
 
     private static final Annotation[] NO_ANNOTATION = new Annotation[0];
+    private static final MediaType YAML_TYPE = new MediaType("text", "vnd.yaml");
 
     @Inject
     private GeronimoOpenAPIExtension extension;
 
+    @Inject
+    private Instance<OpenAPIViews> viewsInstance;
+
     @Context
     private Providers providers;
 
-    private OpenAPI openApi;
+    private Application application;
     private MediaType defaultMediaType;
+    private List<String> encodings;
+    private OpenAPIJsonWriter jsonWriter;
+    private OpenAPIViews views;
 
     @PostConstruct
     private void init() {
         defaultMediaType = defaultMediaType == null ? extension.getDefaultMediaType() : defaultMediaType;
+        encodings = extension.getCompressionEncodings();
+        jsonWriter = extension.getJsonWriter();
+        if (viewsInstance != null && !viewsInstance.isUnsatisfied() && !viewsInstance.isAmbiguous()) {
+            views = viewsInstance.get();
+        }
     }
 
     @Override
@@ -73,14 +97,105 @@ public class OpenAPIFilter implements ContainerRequestFilter {
         final String path = rc.getUriInfo().getPath();
         if ("openapi".equals(path)) {
             final List<MediaType> mediaTypes = rc.getAcceptableMediaTypes();
-            rc.abortWith(Response.ok(openApi).type(selectType(mediaTypes)).build());
+            rc.abortWith(respond(rc, selectType(mediaTypes)));
         }
         if ("openapi.json".equals(path)) {
-            rc.abortWith(Response.ok(openApi).type(APPLICATION_JSON_TYPE).build());
+            rc.abortWith(respond(rc, APPLICATION_JSON_TYPE));
         }
         if ("openapi.yml".equals(path) || "openapi.yaml".equals(path)) {
-            rc.abortWith(Response.ok(openApi).type("text/vnd.yaml").build());
+            rc.abortWith(respond(rc, YAML_TYPE));
+        }
+    }
+
+    private Response respond(final ContainerRequestContext rc, final MediaType type) {
+        // looked up for each request since the model can be rebuilt at runtime
+        final OpenAPIDocument base = extension.getOrCreateDocument(application);
+        final String view = views == null ? null : views.getKey(rc);
+        final OpenAPIDocument document = view == null ?
+                base : base.getOrCreateView(view, model -> extension.createView(model, views.getFilters(view)));
+        final OpenAPIDocument.Representation identity = document.getOrRender(type, it -> render(document.getModel(), it));
+        if (identity == null) { // let jaxrs try to handle it
+            return Response.ok(document.getModel()).type(type).build();
+        }
+        final String encoding = selectEncoding(rc.getHeaderString(HttpHeaders.ACCEPT_ENCODING), encodings);
+        final OpenAPIDocument.Representation representation = encoding == null ? identity : identity.encode(encoding);
+        final Date lastModified = document.getLastModified();
+        final Response.ResponseBuilder notModified = rc.getRequest().evaluatePreconditions(lastModified, representation.getEntityTag());
+        if (notModified != null) {
+            return vary(notModified).build();
+        }
+        return vary(Response.ok((StreamingOutput) representation::writeTo))
+                .type(type)
+                .encoding(representation.getEncoding())
+                .tag(representation.getEntityTag())
+                .lastModified(lastModified)
+                .build();
+    }
+
+    private Response.ResponseBuilder vary(final Response.ResponseBuilder builder) {
+        // the audience is not visible to shared caches, they must not serve a view (or the base document) to another one
+        if (views != null) {
+            builder.header(HttpHeaders.CACHE_CONTROL, "private");
+        }
+        return encodings.isEmpty() ? builder : builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    // returns the preferred supported encoding (by q-value then configuration order) or null for identity
+    static String selectEncoding(final String acceptEncoding, final List<String> supported) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty() || supported.isEmpty()) {
+            return null;
+        }
+        final Map<String, Float> qualities = new HashMap<>();
+        for (final String value : acceptEncoding.split(",")) {
+            final String[] segments = value.split(";");
+            final String name = segments[0].trim().toLowerCase(ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            float quality = 1;
+            for (int i = 1; i < segments.length; i++) {
+                final String param = segments[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Float.parseFloat(param.substring(2).trim());
+                    } catch (final NumberFormatException nfe) {
+                        quality = 0;
+                    }
+                }
+            }
+            qualities.put(name, quality);
         }
+        final Float wildcard = qualities.get("*");
+        String selected = null;
+        float selectedQuality = 0;
+        for (final String encoding : supported) {
+            final Float quality = qualities.getOrDefault(encoding, wildcard);
+            if (quality != null && quality > selectedQuality) {
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    private byte[] render(final OpenAPI model, final MediaType type) {
+        if (jsonWriter != null && APPLICATION_JSON_TYPE.isCompatible(type)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            jsonWriter.write(model, out);
+            return out.toByteArray();
+        }
+        final Class<OpenAPI> modelType = Class.class.cast(model.getClass());
+        final MessageBodyWriter<OpenAPI> writer = providers.getMessageBodyWriter(modelType, modelType, NO_ANNOTATION, type);
+        if (writer == null) {
+            return null;
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writer.writeTo(model, modelType, modelType, NO_ANNOTATION, type, new MultivaluedHashMap<>(), out);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
     }
 
     private MediaType selectType(final List<MediaType> mediaTypes) {
@@ -99,7 +214,18 @@ public class OpenAPIFilter implements ContainerRequestFilter {
 
     @Context
     public void setApplication(final Application application) {
-        this.openApi = extension.getOrCreateOpenAPI(application);
+        this.application = application;
+        extension.getOrCreateDocument(application);
+    }
+
+    // forces the next requests to render again the model, after a modification of the model returned by
+    // GeronimoOpenAPIExtension#getOrCreateOpenAPI for instance (not possible when geronimo.openapi.model.freeze is true,
+    // use GeronimoOpenAPIExtension#rebuild then)
+    public void invalidate() {
+        final OpenAPIDocument document = extension.getOrCreateDocument(application);
+        document.invalidate();
+        // the default representation is rendered (and hashed) there and not by the next request
+        document.getOrRender(defaultMediaType, it -> render(document.getModel(), it));
     }
 
     public void setDefaultMediaType(final MediaType defaultMediaType) {
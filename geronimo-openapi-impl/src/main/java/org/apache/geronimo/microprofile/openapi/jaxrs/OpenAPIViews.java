@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.jaxrs;
+
+import java.util.List;
+
+import javax.ws.rs.container.ContainerRequestContext;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+
+// serves a filtered documentation per audience (partners, internal users, admins...) when registered as a CDI bean,
+// the model of a key and its renderings are computed once then kept in a LRU cache (geronimo.openapi.view.cache.size)
+public interface OpenAPIViews {
+    // null to serve the whole model, can come from a header or the user roles for instance
+    String getKey(ContainerRequestContext request);
+
+    // filters applied in order on a copy of the served model the first time a key is served,
+    // with geronimo.openapi.filter.discovery, the filter beans injected in the views are not applied to the served model,
+    // a filter bean only looked up or created by the views must be @Vetoed for that
+    List<OASFilter> getFilters(String key);
+}
@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.cdi;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Annotated;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessBean;
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Application;
+
+import org.apache.geronimo.microprofile.openapi.config.GeronimoOpenAPIConfig;
+import org.apache.geronimo.microprofile.openapi.impl.filter.FilterImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.InfoImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessor;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.ClassElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.MethodElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.spi.NamingStrategy;
+import org.apache.geronimo.microprofile.openapi.jaxrs.JacksonOpenAPIYamlBodyWriter;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIDocument;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIViews;
+import org.apache.geronimo.microprofile.openapi.jaxrs.OpenAPIYamlBodyWriter;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.junit.Test;
+
+public class GeronimoOpenAPIExtensionTest {
+    @Test
+    public void eagerBuildOfProxiedApplication() {
+        final AtomicInteger released = new AtomicInteger();
+        final TestExtension eager = newExtension("application.eager", "true");
+        eager.findEndpointsAndApplication(processBean(bean(TestApplication.class)));
+        eager.buildEagerly(bean -> context(released), (bean, context) -> new TestApplication$$Proxy());
+
+        final OpenAPI eagerModel = eager.getOrCreateOpenAPI(new TestApplication$$Proxy());
+        final OpenAPI lazyModel = newExtension().getOrCreateOpenAPI(new TestApplication());
+        assertEquals(new HashSet<>(asList("/api/hello")), eagerModel.getPaths().keySet());
+        assertEquals(lazyModel.getPaths().keySet(), eagerModel.getPaths().keySet());
+        assertEquals(1, eager.builds.get());
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    public void buildOnceUnderConcurrentRequests() throws Exception {
+        final TestExtension extension = newExtension();
+        extension.started = new CountDownLatch(1);
+        extension.release = new CountDownLatch(1);
+        final Application application = new TestApplication();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<OpenAPI>> requests = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                requests.add(pool.submit(() -> extension.getOrCreateOpenAPI(application)));
+            }
+            assertTrue(extension.started.await(1, MINUTES));
+            Thread.sleep(100); // let the other requests reach the pending build
+            extension.release.countDown();
+            final OpenAPI first = requests.get(0).get(1, MINUTES);
+            for (final Future<OpenAPI> request : requests) {
+                assertSame(first, request.get(1, MINUTES));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, extension.builds.get());
+    }
+
+    @Test
+    public void retryAfterFailedBuild() {
+        final TestExtension extension = newExtension();
+        extension.failures.set(1);
+        final Application application = new TestApplication();
+        try {
+            extension.getOrCreateOpenAPI(application);
+            fail("the first build fails");
+        } catch (final IllegalStateException ise) {
+            assertEquals("failed build", ise.getMessage());
+        }
+        assertFalse(extension.getApplications().contains(application));
+
+        final OpenAPI model = extension.getOrCreateOpenAPI(application);
+        assertEquals(new HashSet<>(asList("/api/hello")), model.getPaths().keySet());
+        assertSame(model, extension.getOrCreateOpenAPI(application));
+        assertEquals(2, extension.builds.get());
+    }
+
+    @Test
+    public void invalidateAndRebuild() {
+        final TestExtension extension = newExtension();
+        final Application application = new TestApplication();
+        final Application other = new TestApplication();
+        final OpenAPIDocument first = extension.getOrCreateDocument(application);
+        final OpenAPIDocument otherDocument = extension.getOrCreateDocument(other);
+        assertSame(first, extension.getOrCreateDocument(application));
+        assertEquals(2, extension.builds.get());
+
+        extension.invalidate(application);
+        assertFalse(extension.getApplications().contains(application));
+        final OpenAPIDocument second = extension.getOrCreateDocument(application);
+        assertNotSame(first, second);
+        assertEquals(3, extension.builds.get());
+
+        final OpenAPIDocument rebuilt = extension.rebuild(application);
+        assertNotSame(second, rebuilt);
+        assertSame(rebuilt, extension.getOrCreateDocument(application));
+        assertSame(otherDocument, extension.getOrCreateDocument(other));
+        assertEquals(4, extension.builds.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void jacksonWritesYamlWhenPresent() {
+        final TestExtension extension = newExtension();
+        final AtomicInteger vetoed = new AtomicInteger();
+        final ProcessAnnotatedType<?> event = ProcessAnnotatedType.class.cast(Proxy.newProxyInstance(
+                GeronimoOpenAPIExtensionTest.class.getClassLoader(), new Class<?>[]{ProcessAnnotatedType.class}, (proxy, method, args) -> {
+                    if ("veto".equals(method.getName())) {
+                        vetoed.incrementAndGet();
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+        extension.vetoJacksonIfNotHere((ProcessAnnotatedType<JacksonOpenAPIYamlBodyWriter>) event);
+        assertEquals(0, vetoed.get());
+        extension.vetoNativeYamlIfDisabled((ProcessAnnotatedType<OpenAPIYamlBodyWriter>) event);
+        assertEquals(1, vetoed.get());
+    }
+
+    @Test
+    public void nativeJsonIsRenderedWithTheBuild() {
+        final OpenAPIDocument document = newExtension("serialization.json.native", "true").getOrCreateDocument(new TestApplication());
+        assertNotNull(document.getOrRender(APPLICATION_JSON_TYPE, it -> {
+            throw new IllegalStateException("rendered with the build");
+        }).getEntityTag());
+    }
+
+    @Test
+    public void modelIsMutableByDefault() {
+        final TestExtension extension = newExtension();
+        final Application application = new TestApplication();
+        extension.getOrCreateOpenAPI(application).info(new InfoImpl().title("modified"));
+        assertEquals("modified", extension.getOrCreateOpenAPI(application).getInfo().getTitle());
+    }
+
+    @Test
+    public void filterBeansAreNotDiscoveredByDefault() {
+        final TestExtension extension = newExtension();
+        extension.findEndpointsAndApplication(processBean(bean(TitleFilter.class)));
+        assertTrue(extension.getDiscoveredFilters().isEmpty());
+        assertNull(extension.getOrCreateOpenAPI(new TestApplication()).getInfo());
+    }
+
+    @Test
+    public void viewFiltersAreNotAppliedToTheServedModel() throws NoSuchFieldException {
+        final TestExtension extension = newExtension("filter.discovery", "true");
+        extension.findEndpointsAndApplication(processBean(bean(InternalFilter.class)));
+        extension.findEndpointsAndApplication(processBean(bean(TitleFilter.class)));
+        extension.findEndpointsAndApplication(processBean(bean(TestViews.class, TestViews.class.getDeclaredField("internal").getGenericType())));
+        assertEquals(singletonList(TitleFilter.class), extension.getDiscoveredFilters().stream().map(Bean::getBeanClass).collect(toList()));
+
+        final OpenAPI model = extension.getOrCreateOpenAPI(new TestApplication());
+        assertEquals("filtered", model.getInfo().getTitle());
+        assertEquals(new HashSet<>(asList("/api/hello")), model.getPaths().keySet());
+    }
+
+    // properties are key/value pairs of geronimo.openapi. configuration
+    private static TestExtension newExtension(final String... properties) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader loader = thread.getContextClassLoader();
+        final Map<String, String> previous = new HashMap<>();
+        for (int i = 0; i < properties.length; i += 2) {
+            previous.put("geronimo.openapi." + properties[i], System.setProperty("geronimo.openapi." + properties[i], properties[i + 1]));
+        }
+        // the config is cached per loader so use a new one to read the properties
+        thread.setContextClassLoader(new URLClassLoader(new URL[0], loader));
+        try {
+            final TestExtension extension = new TestExtension();
+            extension.init(null);
+            return extension;
+        } finally {
+            thread.setContextClassLoader(loader);
+            previous.forEach((key, value) -> {
+                if (value == null) {
+                    System.clearProperty(key);
+                } else {
+                    System.setProperty(key, value);
+                }
+            });
+        }
+    }
+
+    private static Bean<?> bean(final Class<?> type, final Type... injected) {
+        final Set<Type> types = new HashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            types.add(current);
+            types.addAll(asList(current.getInterfaces()));
+        }
+        final Set<InjectionPoint> injectionPoints = Stream.of(injected)
+                .map(it -> InjectionPoint.class.cast(Proxy.newProxyInstance(GeronimoOpenAPIExtensionTest.class.getClassLoader(),
+                        new Class<?>[]{InjectionPoint.class}, (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "getType":
+                                    return it;
+                                case "hashCode":
+                                    return it.hashCode();
+                                case "equals":
+                                    return proxy == args[0];
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        })))
+                .collect(toSet());
+        return Bean.class.cast(Proxy.newProxyInstance(GeronimoOpenAPIExtensionTest.class.getClassLoader(), new Class<?>[]{Bean.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getBeanClass":
+                            return type;
+                        case "getTypes":
+                            return types;
+                        case "getInjectionPoints":
+                            return injectionPoints;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }));
+    }
+
+    private static ProcessBean<?> processBean(final Bean<?> bean) {
+        final Annotated annotated = Annotated.class.cast(Proxy.newProxyInstance(GeronimoOpenAPIExtensionTest.class.getClassLoader(),
+                new Class<?>[]{Annotated.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getBaseType":
+                            return bean.getBeanClass();
+                        case "isAnnotationPresent":
+                            return bean.getBeanClass().isAnnotationPresent(Class.class.cast(args[0]));
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }));
+        return ProcessBean.class.cast(Proxy.newProxyInstance(GeronimoOpenAPIExtensionTest.class.getClassLoader(),
+                new Class<?>[]{ProcessBean.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAnnotated":
+                            return annotated;
+                        case "getBean":
+                            return bean;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }));
+    }
+
+    private static CreationalContext<?> context(final AtomicInteger released) {
+        return CreationalContext.class.cast(Proxy.newProxyInstance(GeronimoOpenAPIExtensionTest.class.getClassLoader(),
+                new Class<?>[]{CreationalContext.class}, (proxy, method, args) -> {
+                    if ("release".equals(method.getName())) {
+                        released.incrementAndGet();
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    // builds the model without a container, the application annotations are read from the given class as in a deployment
+    private static class TestExtension extends GeronimoOpenAPIExtension {
+        private final AtomicInteger builds = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile CountDownLatch started;
+        private volatile CountDownLatch release;
+
+        @Override
+        protected OpenAPI createOpenApi(final Class<?> application, final Stream<Class<?>> beans) {
+            builds.incrementAndGet();
+            if (started != null) {
+                started.countDown();
+                try {
+                    release.await(1, MINUTES);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("failed build");
+            }
+            final OpenAPI api = new OpenAPIImpl();
+            final AnnotationProcessor processor = new AnnotationProcessor(GeronimoOpenAPIConfig.create(), new NamingStrategy.Default(), null);
+            processor.processApplication(api, new ClassElement(application));
+            processor.processClass(processor.getApplicationBinding(application), api, new ClassElement(HelloResource.class),
+                    Stream.of(HelloResource.class.getMethods()).map(MethodElement::new));
+            final List<OASFilter> filters = getDiscoveredFilters().stream()
+                    .map(bean -> {
+                        try {
+                            return OASFilter.class.cast(bean.getBeanClass().getConstructor().newInstance());
+                        } catch (final ReflectiveOperationException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .collect(toList());
+            return filters.isEmpty() ? api : new FilterImpl(filters).filter(api);
+        }
+    }
+
+    @ApplicationPath("api")
+    public static class TestApplication extends Application {
+    }
+
+    // what a normal scoped client proxy looks like, the subclass does not inherit @ApplicationPath
+    public static class TestApplication$$Proxy extends TestApplication {
+    }
+
+    public static class TitleFilter implements OASFilter {
+        @Override
+        public void filterOpenAPI(final OpenAPI openAPI) {
+            openAPI.info(new InfoImpl().title("filtered"));
+        }
+    }
+
+    // hides all the endpoints, only for the internal view
+    public static class InternalFilter implements OASFilter {
+        @Override
+        public PathItem filterPathItem(final PathItem pathItem) {
+            return null;
+        }
+    }
+
+    public static class TestViews implements OpenAPIViews {
+        private Instance<InternalFilter> internal;
+
+        @Override
+        public String getKey(final ContainerRequestContext request) {
+            return request.getHeaderString("X-View");
+        }
+
+        @Override
+        public List<OASFilter> getFilters(final String key) {
+            return singletonList(internal.get());
+        }
+    }
+
+    @Path("hello")
+    public static class HelloResource {
+        @GET
+        public String get() {
+            return "hello";
+        }
+    }
+}
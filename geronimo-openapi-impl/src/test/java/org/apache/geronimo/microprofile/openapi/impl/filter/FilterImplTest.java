@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.filter;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponseImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponsesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.CallbackImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ContentImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.HeaderImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.MediaTypeImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OperationImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ParameterImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathItemImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.RequestBodyImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.testng.annotations.Test;
+
+public class FilterImplTest {
+    @Test
+    public void visitsEachNodeOnce() {
+        final Schema shared = new SchemaImpl().title("shared");
+        final OpenAPI api = new OpenAPIImpl()
+                .components(new ComponentsImpl().addSchema("Shared", shared))
+                .paths(new PathsImpl()
+                        .addPathItem("/a", new PathItemImpl().GET(operation(shared)))
+                        .addPathItem("/b", new PathItemImpl().POST(operation(shared))));
+
+        final Map<String, Integer> calls = new HashMap<>();
+        new FilterImpl(new OASFilter() {
+            @Override
+            public PathItem filterPathItem(final PathItem pathItem) {
+                calls.merge("pathItem", 1, Integer::sum);
+                return pathItem;
+            }
+
+            @Override
+            public Operation filterOperation(final Operation operation) {
+                calls.merge("operation", 1, Integer::sum);
+                return operation;
+            }
+
+            @Override
+            public Schema filterSchema(final Schema schema) {
+                calls.merge(schema.getTitle(), 1, Integer::sum);
+                return schema;
+            }
+
+            @Override
+            public void filterOpenAPI(final OpenAPI openAPI) {
+                calls.merge("openapi", 1, Integer::sum);
+            }
+        }).filter(api);
+
+        // 2 paths + one callback path item per operation
+        assertEquals(calls.get("pathItem").intValue(), 4);
+        assertEquals(calls.get("operation").intValue(), 4);
+        assertEquals(calls.get("shared").intValue(), 1);
+        assertEquals(calls.get("parameter").intValue(), 2);
+        assertEquals(calls.get("body").intValue(), 2);
+        assertEquals(calls.get("header").intValue(), 2);
+        assertEquals(calls.get("callback").intValue(), 2);
+        assertEquals(calls.get("openapi").intValue(), 1);
+    }
+
+    @Test
+    public void removeAndReplace() {
+        final OpenAPI api = new OpenAPIImpl()
+                .paths(new PathsImpl()
+                        .addPathItem("/kept", new PathItemImpl()
+                                .GET(new OperationImpl().operationId("get"))
+                                .DELETE(new OperationImpl().operationId("delete")))
+                        .addPathItem("/removed", new PathItemImpl().summary("removed")));
+        final Schema replacement = new SchemaImpl().title("replacement");
+        api.getPaths().get("/kept").getGET().addParameter(new ParameterImpl()
+                .name("p").schema(new SchemaImpl().title("original")));
+
+        new FilterImpl(new OASFilter() {
+            @Override
+            public PathItem filterPathItem(final PathItem pathItem) {
+                return "removed".equals(pathItem.getSummary()) ? null : pathItem;
+            }
+
+            @Override
+            public Operation filterOperation(final Operation operation) {
+                return "delete".equals(operation.getOperationId()) ? null : operation;
+            }
+
+            @Override
+            public Schema filterSchema(final Schema schema) {
+                return replacement;
+            }
+        }).filter(api);
+
+        assertEquals(api.getPaths().keySet().size(), 1);
+        final PathItem kept = api.getPaths().get("/kept");
+        assertNotNull(kept.getGET());
+        assertNull(kept.getDELETE());
+        assertSame(kept.getGET().getParameters().get(0).getSchema(), replacement);
+    }
+
+    @Test
+    public void composite() {
+        final OpenAPI api = new OpenAPIImpl()
+                .paths(new PathsImpl()
+                        .addPathItem("/public", new PathItemImpl().summary("public"))
+                        .addPathItem("/internal", new PathItemImpl().summary("internal")));
+        final List<String> calls = new ArrayList<>();
+        new FilterImpl(asList(
+                new OASFilter() {
+                    @Override
+                    public PathItem filterPathItem(final PathItem pathItem) {
+                        calls.add("first:" + pathItem.getSummary());
+                        return "internal".equals(pathItem.getSummary()) ? null : pathItem;
+                    }
+
+                    @Override
+                    public void filterOpenAPI(final OpenAPI openAPI) {
+                        calls.add("first:openapi");
+                    }
+                },
+                new OASFilter() {
+                    @Override
+                    public PathItem filterPathItem(final PathItem pathItem) {
+                        calls.add("second:" + pathItem.getSummary());
+                        return pathItem.summary(pathItem.getSummary() + "!");
+                    }
+
+                    @Override
+                    public void filterOpenAPI(final OpenAPI openAPI) {
+                        calls.add("second:openapi");
+                    }
+                })).filter(api);
+
+        // each node goes through the filters in order, a removed node is not passed to the next ones
+        assertEquals(calls, asList(
+                "first:public", "second:public", "first:internal", "first:openapi", "second:openapi"));
+        assertEquals(api.getPaths().keySet(), singleton("/public"));
+        assertEquals(api.getPaths().get("/public").getSummary(), "public!");
+    }
+
+    @Test
+    public void cyclicSchema() {
+        final Schema node = new SchemaImpl().title("node");
+        node.addProperty("next", node);
+        final OpenAPI api = new OpenAPIImpl().components(new ComponentsImpl().addSchema("Node", node));
+        final int[] calls = new int[1];
+        new FilterImpl(new OASFilter() {
+            @Override
+            public Schema filterSchema(final Schema schema) {
+                calls[0]++;
+                return schema;
+            }
+        }).filter(api);
+        assertEquals(calls[0], 1);
+        assertTrue(api.getComponents().getSchemas().containsKey("Node"));
+    }
+
+    // each nested element owns a schema titled after it so the test can count the hook calls
+    private static Operation operation(final Schema shared) {
+        return new OperationImpl()
+                .addParameter(new ParameterImpl().name("id").schema(new SchemaImpl().title("parameter")))
+                .requestBody(new RequestBodyImpl().content(new ContentImpl()
+                        .addMediaType("application/json", new MediaTypeImpl().schema(new SchemaImpl().title("body")
+                                .addProperty("shared", shared)))))
+                .responses(new APIResponsesImpl().addAPIResponse("200", new APIResponseImpl()
+                        .description("ok")
+                        .addHeader("X-Header", new HeaderImpl().schema(new SchemaImpl().title("header")))))
+                .addCallback("onEvent", new CallbackImpl().addPathItem("{$request.body#/url}", new PathItemImpl()
+                        .POST(new OperationImpl().requestBody(new RequestBodyImpl().content(new ContentImpl()
+                                .addMediaType("application/json", new MediaTypeImpl()
+                                        .schema(new SchemaImpl().title("callback"))))))));
+    }
+}
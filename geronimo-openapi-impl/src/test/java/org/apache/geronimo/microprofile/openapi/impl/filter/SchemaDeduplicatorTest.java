@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.filter;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.io.StringWriter;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponseImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponsesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ContentImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.MediaTypeImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OperationImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathItemImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriterTest;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.testng.annotations.Test;
+
+public class SchemaDeduplicatorTest {
+    @Test
+    public void sharesEqualSchemas() {
+        final OpenAPI api = newModel();
+        final String json = json(api);
+        new SchemaDeduplicator().deduplicate(api);
+        assertEquals(json(api), json);
+
+        final Schema a = schema(api, "/a");
+        final Schema b = schema(api, "/b");
+        final Schema c = schema(api, "/c");
+        assertSame(a, b);
+        assertNotSame(a, c); // other property order
+        assertSame(a.getProperties().get("name"), c.getProperties().get("name"));
+        assertSame(a.getProperties().get("name"), api.getComponents().getSchemas().get("Name"));
+    }
+
+    @Test
+    public void hoist() {
+        final OpenAPI api = new SchemaDeduplicator(true, 2).deduplicate(newModel());
+        assertEquals(schema(api, "/a").getRef(), "#/components/schemas/InlineSchema1");
+        assertSame(schema(api, "/a"), schema(api, "/b"));
+        assertEquals(schema(api, "/c").getType(), Schema.SchemaType.OBJECT); // used once
+        assertEquals(api.getComponents().getSchemas().get("InlineSchema1").getProperties().keySet().toString(), "[name, age]");
+    }
+
+    @Test
+    public void sameJsonOnFullModel() {
+        final OpenAPI api = OpenAPIJsonWriterTest.newModel();
+        final String json = json(api);
+        assertEquals(json(new SchemaDeduplicator().deduplicate(api)), json);
+    }
+
+    private static OpenAPI newModel() {
+        return new OpenAPIImpl()
+                .components(new ComponentsImpl().addSchema("Name", new SchemaImpl().type(Schema.SchemaType.STRING).maxLength(32)))
+                .paths(new PathsImpl()
+                        .addPathItem("/a", new PathItemImpl().GET(operation(true)))
+                        .addPathItem("/b", new PathItemImpl().GET(operation(true)))
+                        .addPathItem("/c", new PathItemImpl().GET(operation(false))));
+    }
+
+    private static Operation operation(final boolean nameFirst) {
+        final Schema name = new SchemaImpl().type(Schema.SchemaType.STRING).maxLength(32);
+        final Schema age = new SchemaImpl().type(Schema.SchemaType.INTEGER);
+        final Schema schema = new SchemaImpl().type(Schema.SchemaType.OBJECT);
+        if (nameFirst) {
+            schema.addProperty("name", name).addProperty("age", age);
+        } else {
+            schema.addProperty("age", age).addProperty("name", name);
+        }
+        return new OperationImpl().responses(new APIResponsesImpl().addAPIResponse("200", new APIResponseImpl()
+                .description("ok")
+                .content(new ContentImpl().addMediaType("application/json", new MediaTypeImpl().schema(schema)))));
+    }
+
+    private static Schema schema(final OpenAPI api, final String path) {
+        return api.getPaths().get(path).getGET().getResponses().get("200").getContent().get("application/json").getSchema();
+    }
+
+    private static String json(final OpenAPI api) {
+        final StringWriter writer = new StringWriter();
+        new OpenAPIJsonWriter().write(api, writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class APIMapTest {
+    @Test
+    public void copyOnWrite() {
+        final APIMap<String, String> source = newMap();
+        final APIMap<String, String> copy = new APIMap<>(source);
+        assertEquals(source, copy);
+
+        copy.put("c", "3");
+        copy.remove("a");
+        assertEquals("{a=1, b=2}", source.toString());
+        assertEquals("{b=2, c=3}", copy.toString());
+
+        source.clear();
+        assertEquals(0, source.size());
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    public void iteratorWrites() {
+        final APIMap<String, String> source = newMap();
+        source.put("c", "3");
+        final APIMap<String, String> copy = new APIMap<>(source);
+
+        final Iterator<Map.Entry<String, String>> iterator = copy.entrySet().iterator();
+        iterator.next().setValue("one");
+        iterator.next();
+        iterator.remove();
+        assertEquals("3", iterator.next().getValue());
+        assertFalse(iterator.hasNext());
+
+        assertEquals("{a=one, c=3}", copy.toString());
+        assertEquals("{a=1, b=2, c=3}", source.toString());
+    }
+
+    @Test
+    public void share() {
+        final ScopesImpl scopes = new ScopesImpl();
+        scopes.share(newMap());
+        scopes.addScope("c", "3");
+        assertEquals("{a=1, b=2, c=3}", scopes.getScopes().toString());
+    }
+
+    private static APIMap<String, String> newMap() {
+        final APIMap<String, String> map = new APIMap<>();
+        map.put("a", "1");
+        map.put("b", "2");
+        return map;
+    }
+}
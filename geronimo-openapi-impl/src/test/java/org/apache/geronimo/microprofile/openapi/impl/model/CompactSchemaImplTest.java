@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.Test;
+
+public class CompactSchemaImplTest {
+    @Test
+    public void sparseSlots() {
+        final CompactSchemaImpl schema = new CompactSchemaImpl();
+        assertNull(schema.getTitle());
+        assertNull(schema.getType());
+        assertNull(schema.getNullable());
+        assertNull(schema.getMaxLength());
+
+        schema.title("t").pattern("p").format("f").type(Schema.SchemaType.ARRAY);
+        schema.nullable(false).readOnly(true).minLength(0).maxItems(-2).maxLength(5);
+        assertEquals("t", schema.getTitle());
+        assertEquals("p", schema.getPattern());
+        assertEquals("f", schema.getFormat());
+        assertEquals(Schema.SchemaType.ARRAY, schema.getType());
+        assertFalse(schema.getNullable());
+        assertTrue(schema.getReadOnly());
+        assertNull(schema.getWriteOnly());
+        assertEquals(0, schema.getMinLength().intValue());
+        assertEquals(-2, schema.getMaxItems().intValue());
+        assertEquals(5, schema.getMaxLength().intValue());
+
+        schema.format(null).nullable(null).maxItems(null).type(null);
+        assertNull(schema.getFormat());
+        assertEquals("t", schema.getTitle());
+        assertEquals("p", schema.getPattern());
+        assertNull(schema.getNullable());
+        assertTrue(schema.getReadOnly());
+        assertNull(schema.getMaxItems());
+        assertEquals(0, schema.getMinLength().intValue());
+        assertEquals(5, schema.getMaxLength().intValue());
+        assertNull(schema.getType());
+
+        final Schema item = new CompactSchemaImpl().ref("Item");
+        schema.items(item).addRequired("a").addRequired("b").addProperty("a", item).additionalProperties(false);
+        schema.removeRequired("a");
+        assertSame(item, schema.getItems());
+        assertEquals("#/components/schemas/Item", item.getRef());
+        assertEquals(asList("b"), schema.getRequired());
+        assertSame(item, schema.getProperties().get("a"));
+        assertFalse(schema.getAdditionalPropertiesBoolean());
+        assertNull(schema.getAdditionalPropertiesSchema());
+    }
+
+    @Test
+    public void sameJsonAsSchemaImpl() throws Exception {
+        final Schema regular = fill(new SchemaImpl());
+        final Schema compact = fill(new CompactSchemaImpl());
+        try (final Jsonb jsonb = JsonbBuilder.create()) {
+            assertEquals(jsonb.toJson(regular), jsonb.toJson(compact));
+        }
+    }
+
+    private static Schema fill(final Schema schema) {
+        return schema.type(Schema.SchemaType.OBJECT).title("Pet").description("a pet").nullable(true)
+                .deprecated(false).minProperties(1).maxProperties(3)
+                .addRequired("name")
+                .addProperty("name", new SchemaImpl().type(Schema.SchemaType.STRING).minLength(1).maxLength(64))
+                .addProperty("age", new SchemaImpl().type(Schema.SchemaType.INTEGER)
+                        .minimum(new BigDecimal("0")).maximum(new BigDecimal("30.5")).exclusiveMaximum(true))
+                .addEnumeration("a")
+                .defaultValue("a")
+                .additionalProperties(new SchemaImpl().type(Schema.SchemaType.STRING));
+    }
+}
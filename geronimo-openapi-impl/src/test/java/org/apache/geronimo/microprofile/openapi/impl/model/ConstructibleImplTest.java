@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.copy.OpenAPICopier;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.junit.Test;
+
+public class ConstructibleImplTest {
+    @Test
+    public void mutableHashFollowsChildren() {
+        final Tag tag = new TagImpl().name("pets").externalDocs(new ExternalDocumentationImpl().url("http://a"));
+        final int hash = tag.hashCode();
+        tag.getExternalDocs().setUrl("http://b");
+        assertNotEquals(hash, tag.hashCode());
+    }
+
+    @Test
+    public void frozenHashIsConsistent() {
+        final Tag tag = new TagImpl().name("pets").description("d")
+                .externalDocs(new ExternalDocumentationImpl().url("http://a"))
+                .addExtension("x-a", "b");
+        final Tag frozen = new OpenAPICopier().freeze(tag);
+        assertEquals(tag.hashCode(), frozen.hashCode());
+        assertEquals(frozen.hashCode(), frozen.hashCode());
+        assertEquals(tag, frozen);
+        assertEquals(frozen, tag);
+
+        final Set<Tag> tags = new HashSet<>();
+        tags.add(frozen);
+        tags.add(new OpenAPICopier().freeze(tag));
+        tags.add(tag);
+        assertEquals(1, tags.size());
+        assertNotEquals(frozen, new OpenAPICopier().freeze(new TagImpl().name("pets").description("other")));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model.codec;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+
+import org.apache.geronimo.microprofile.openapi.config.GeronimoOpenAPIConfig;
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponseImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponsesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.CallbackImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ContentImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ExampleImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.HeaderImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.InfoImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.LinkImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.MediaTypeImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OAuthFlowImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OAuthFlowsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OperationImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ParameterImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathItemImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ScopesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SecurityRequirementImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SecuritySchemeImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ServerImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ServerVariableImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ServerVariablesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.TagImpl;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessor;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessorTest;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.ClassElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.MethodElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.spi.NamingStrategy;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.testng.annotations.Test;
+
+public class OpenAPIJsonWriterTest {
+    @Test
+    public void sameAsJsonb() throws Exception {
+        final OpenAPI api = newModel();
+        assertEquals(write(api), jsonb(api));
+    }
+
+    @Test
+    public void processedModel() throws Exception {
+        final OpenAPI api = new OpenAPIImpl();
+        new AnnotationProcessor(GeronimoOpenAPIConfig.create(), new NamingStrategy.Default(), null)
+                .processClass("", api, new ClassElement(AnnotationProcessorTest.TestResource.class),
+                        Stream.of(AnnotationProcessorTest.TestResource.class.getMethods()).map(MethodElement::new));
+        assertEquals(write(api), jsonb(api));
+    }
+
+    // the reason why the writer is opt-in (geronimo.openapi.serialization.json.native): JSON-B drops these extensions
+    @Test
+    public void extensions() throws Exception {
+        final OpenAPI api = new OpenAPIImpl()
+                .info(new InfoImpl().title("test").version("1").addExtension("x-info", "i"))
+                .paths(new PathsImpl().addExtension("x-paths", Json.createArrayBuilder().add(1).build()))
+                .components(new ComponentsImpl().addSchema("Pet", new SchemaImpl()
+                        .type(Schema.SchemaType.OBJECT).addExtension("x-schema", "s")));
+        final JsonObject json = write(api);
+        assertEquals("i", json.getJsonObject("info").getString("x-info"));
+        assertEquals(1, json.getJsonObject("paths").getJsonArray("x-paths").getInt(0));
+        assertEquals("s", json.getJsonObject("components").getJsonObject("schemas").getJsonObject("Pet").getString("x-schema"));
+
+        final JsonObject jsonb = jsonb(api);
+        assertFalse(jsonb.getJsonObject("info").containsKey("x-info"));
+        assertFalse(jsonb.getJsonObject("components").getJsonObject("schemas").getJsonObject("Pet").containsKey("x-schema"));
+        assertEquals(jsonb.getJsonObject("info").getString("title"), json.getJsonObject("info").getString("title"));
+    }
+
+    @Test
+    public void writer() {
+        final OpenAPI api = newModel();
+        final StringWriter writer = new StringWriter();
+        new OpenAPIJsonWriter().write(api, writer);
+        assertEquals(read(writer.toString()), write(api));
+    }
+
+    private static JsonObject write(final OpenAPI api) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new OpenAPIJsonWriter().write(api, out);
+        return read(new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static JsonObject jsonb(final OpenAPI api) throws Exception {
+        try (final Jsonb jsonb = JsonbBuilder.create()) {
+            return read(jsonb.toJson(api));
+        }
+    }
+
+    private static JsonObject read(final String json) {
+        try (final JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+
+    // extensions only on operations since JSON-B drops the other ones
+    public static OpenAPI newModel() {
+        final Schema pet = new SchemaImpl()
+                .type(Schema.SchemaType.OBJECT)
+                .title("Pet")
+                .addRequired("name")
+                .addProperty("name", new SchemaImpl().type(Schema.SchemaType.STRING).minLength(1).maxLength(64).pattern("[a-z]+"))
+                .addProperty("age", new SchemaImpl().type(Schema.SchemaType.INTEGER).format("int32")
+                        .minimum(new BigDecimal("0")).maximum(new BigDecimal("30.5")).multipleOf(new BigDecimal("1.0")))
+                .addProperty("tags", new SchemaImpl().type(Schema.SchemaType.ARRAY).uniqueItems(true)
+                        .items(new SchemaImpl().type(Schema.SchemaType.STRING).addEnumeration("a").addEnumeration("b")))
+                .addProperty("owner", new SchemaImpl().ref("#/components/schemas/Owner").nullable(true))
+                .addProperty("kind", new SchemaImpl().type(Schema.SchemaType.STRING)
+                        .enumeration(asList(Schema.SchemaType.values())))
+                .additionalPropertiesBoolean(false);
+        return new OpenAPIImpl()
+                .openapi("3.0.1")
+                .info(new InfoImpl().title("Pets").version("1.0").description("Pets \"api\"\n"))
+                .addServer(new ServerImpl().url("http://{host}/api").variables(new ServerVariablesImpl()
+                        .addServerVariable("host", new ServerVariableImpl().defaultValue("localhost").addEnumeration("localhost"))))
+                .addTag(new TagImpl().name("pets").description("Pet operations"))
+                .addSecurityRequirement(new SecurityRequirementImpl().addScheme("oauth", "read"))
+                .paths(new PathsImpl().addPathItem("/pets/{id}", new PathItemImpl()
+                        .summary("A pet")
+                        .GET(new OperationImpl()
+                                .operationId("getPet")
+                                .addTag("pets")
+                                .deprecated(false)
+                                .addExtension("x-rate", 10)
+                                .addParameter(new ParameterImpl().name("id").in(Parameter.In.PATH).required(true)
+                                        .style(Parameter.Style.SIMPLE).schema(new SchemaImpl().type(Schema.SchemaType.STRING)))
+                                .addParameter(new ParameterImpl().ref("#/components/parameters/Limit"))
+                                .responses(new APIResponsesImpl()
+                                        .defaultValue(new APIResponseImpl().description("error"))
+                                        .addAPIResponse("200", new APIResponseImpl().description("ok")
+                                                .addHeader("X-Rate", new HeaderImpl().schema(new SchemaImpl().type(Schema.SchemaType.INTEGER)))
+                                                .addLink("owner", new LinkImpl().operationId("getOwner").parameters(singletonMap("id", "$response.body#/owner")))
+                                                .content(new ContentImpl().addMediaType("application/json", new MediaTypeImpl()
+                                                        .schema(new SchemaImpl().ref("#/components/schemas/Pet"))
+                                                        .addExample("rex", new ExampleImpl().value(Json.createObjectBuilder()
+                                                                .add("name", "rex").add("age", 3).addNull("owner").build())))))))
+                        .POST(new OperationImpl()
+                                .operationId("createPet")
+                                .addCallback("onCreate", new CallbackImpl().addPathItem("{$request.body#/url}", new PathItemImpl()
+                                        .POST(new OperationImpl().responses(new APIResponsesImpl()
+                                                .addAPIResponse("204", new APIResponseImpl().description("ack"))))))
+                                .responses(new APIResponsesImpl().addAPIResponse("201", new APIResponseImpl().description("created"))))))
+                .components(new ComponentsImpl()
+                        .addSchema("Pet", pet)
+                        .addSchema("Owner", new SchemaImpl().type(Schema.SchemaType.OBJECT)
+                                .addProperty("name", new SchemaImpl().type(Schema.SchemaType.STRING).example("john")))
+                        .addParameter("Limit", new ParameterImpl().name("limit").in(Parameter.In.QUERY)
+                                .schema(new SchemaImpl().type(Schema.SchemaType.INTEGER).defaultValue(20)))
+                        .addSecurityScheme("oauth", new SecuritySchemeImpl().type(SecurityScheme.Type.OAUTH2)
+                                .flows(new OAuthFlowsImpl().implicit(new OAuthFlowImpl()
+                                        .authorizationUrl("http://localhost/auth")
+                                        .scopes(new ScopesImpl().addScope("read", "reads"))))));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model.codec;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponseImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.APIResponsesImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.InfoImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OperationImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathItemImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathsImpl;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.testng.annotations.Test;
+
+public class OpenAPIYamlWriterTest {
+    @Test
+    public void sameDataAsJson() throws Exception {
+        final OpenAPI api = OpenAPIJsonWriterTest.newModel();
+        assertEquals(parseYaml(yaml(api)), json(api));
+    }
+
+    @Test
+    public void minimal() { // same as jackson-dataformat-yaml
+        assertEquals(yaml(new OpenAPIImpl()), "---\nopenapi: \"3.0.1\"\n");
+    }
+
+    @Test
+    public void blockStyle() {
+        final OpenAPI api = new OpenAPIImpl()
+                .openapi("3.0.1")
+                .info(new InfoImpl().title("a \"quoted\"\ntitle").version("1").addExtension("x-empty", asList()))
+                .paths(new PathsImpl().addPathItem("/{id}", new PathItemImpl().GET(new OperationImpl()
+                        .addTag("t1")
+                        .addTag("t2")
+                        .addExtension("x-nested", asList(asList(1, true), new BigDecimal("1E+3"), null))
+                        .responses(new APIResponsesImpl().addAPIResponse("200", new APIResponseImpl().description("ok"))))));
+        assertEquals(yaml(api), "---\n" +
+                "openapi: \"3.0.1\"\n" +
+                "info:\n" +
+                "  title: \"a \\\"quoted\\\"\\ntitle\"\n" +
+                "  version: \"1\"\n" +
+                "  x-empty: []\n" +
+                "paths:\n" +
+                "  /{id}:\n" +
+                "    get:\n" +
+                "      tags:\n" +
+                "      - \"t1\"\n" +
+                "      - \"t2\"\n" +
+                "      responses:\n" +
+                "        \"200\":\n" +
+                "          description: \"ok\"\n" +
+                "      x-nested:\n" +
+                "      - - 1\n" +
+                "        - true\n" +
+                "      - 1.0E+3\n" +
+                "      - null\n");
+    }
+
+    @Test
+    public void writer() {
+        final OpenAPI api = OpenAPIJsonWriterTest.newModel();
+        final StringWriter writer = new StringWriter();
+        new OpenAPIYamlWriter().write(api, writer);
+        assertEquals(writer.toString(), yaml(api));
+    }
+
+    private static String yaml(final OpenAPI api) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new OpenAPIYamlWriter().write(api, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static JsonObject json(final OpenAPI api) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new OpenAPIJsonWriter().write(api, out);
+        return read(new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static JsonObject parseYaml(final String yaml) throws Exception {
+        return read(new ObjectMapper().writeValueAsString(new ObjectMapper(new YAMLFactory()).readTree(yaml)));
+    }
+
+    private static JsonObject read(final String json) {
+        try (final JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
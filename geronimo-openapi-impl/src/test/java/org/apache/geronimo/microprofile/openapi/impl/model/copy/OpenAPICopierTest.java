@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.model.copy;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.geronimo.microprofile.openapi.config.GeronimoOpenAPIConfig;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OperationImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.ParameterImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathItemImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.PathsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriterTest;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessor;
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessorTest;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.ClassElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.MethodElement;
+import org.apache.geronimo.microprofile.openapi.impl.processor.spi.NamingStrategy;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.security.Scopes;
+import org.testng.annotations.Test;
+
+public class OpenAPICopierTest {
+    @Test
+    public void sameJson() {
+        final OpenAPI api = OpenAPIJsonWriterTest.newModel();
+        final OpenAPI copy = new OpenAPICopier().copy(api);
+        assertEquals(write(copy), write(api));
+        assertNotSame(copy.getInfo(), api.getInfo());
+        assertNotSame(copy.getPaths().get("/pets/{id}"), api.getPaths().get("/pets/{id}"));
+        assertNotSame(copy.getComponents().getSchemas().get("Pet"), api.getComponents().getSchemas().get("Pet"));
+    }
+
+    @Test
+    public void processedModel() {
+        final OpenAPI api = new OpenAPIImpl();
+        new AnnotationProcessor(GeronimoOpenAPIConfig.create(), new NamingStrategy.Default(), null)
+                .processClass("", api, new ClassElement(AnnotationProcessorTest.TestResource.class),
+                        Stream.of(AnnotationProcessorTest.TestResource.class.getMethods()).map(MethodElement::new));
+        assertEquals(write(new OpenAPICopier().copy(api)), write(api));
+        assertEquals(write(new OpenAPICopier(false).copy(api)), write(api));
+    }
+
+    @Test
+    public void independent() {
+        final OpenAPI api = OpenAPIJsonWriterTest.newModel();
+        final String json = write(api);
+        final OpenAPI copy = new OpenAPICopier().copy(api);
+        copy.getPaths().removePathItem("/pets/{id}");
+        copy.getComponents().getSchemas().get("Pet").getProperties().get("name").maxLength(10);
+        copy.getComponents().getSecuritySchemes().get("oauth").getFlows().getImplicit().getScopes().addScope("write", "writes");
+        assertEquals(write(api), json);
+        assertNotEquals(write(copy), json);
+
+        final Scopes scopes = api.getComponents().getSecuritySchemes().get("oauth").getFlows().getImplicit().getScopes();
+        assertEquals(scopes.size(), 1);
+    }
+
+    @Test
+    public void identity() {
+        final Schema shared = new SchemaImpl().type(Schema.SchemaType.STRING);
+        final OpenAPI api = new OpenAPIImpl().paths(new PathsImpl()
+                .addPathItem("/a", new PathItemImpl().GET(new OperationImpl()
+                        .addParameter(new ParameterImpl().name("p1").schema(shared))
+                        .addParameter(new ParameterImpl().name("p2").schema(shared)))));
+
+        final Operation preserved = new OpenAPICopier().copy(api).getPaths().get("/a").getGET();
+        assertSame(preserved.getParameters().get(0).getSchema(), preserved.getParameters().get(1).getSchema());
+        assertNotSame(preserved.getParameters().get(0).getSchema(), shared);
+
+        final Operation tree = new OpenAPICopier(false).copy(api).getPaths().get("/a").getGET();
+        assertNotSame(tree.getParameters().get(0).getSchema(), tree.getParameters().get(1).getSchema());
+    }
+
+    @Test
+    public void cycle() {
+        final Schema node = new SchemaImpl().type(Schema.SchemaType.OBJECT);
+        node.addProperty("next", node);
+        final Schema copy = new OpenAPICopier().copy(node);
+        assertNotSame(copy, node);
+        assertSame(copy.getProperties().get("next"), copy);
+    }
+
+    @Test
+    public void freeze() {
+        final OpenAPI api = OpenAPIJsonWriterTest.newModel();
+        final OpenAPI frozen = new OpenAPICopier().freeze(api);
+        assertEquals(write(frozen), write(api));
+
+        final Operation operation = frozen.getPaths().get("/pets/{id}").getGET();
+        final Schema pet = frozen.getComponents().getSchemas().get("Pet");
+        Stream.<Runnable>of(
+                () -> frozen.setOpenapi("3.0.2"),
+                () -> frozen.getPaths().addPathItem("/other", new PathItemImpl()),
+                () -> frozen.getPaths().remove("/pets/{id}"),
+                () -> operation.setDescription("changed"),
+                () -> operation.addParameter(new ParameterImpl().name("other")),
+                () -> operation.getParameters().clear(),
+                () -> operation.addExtension("x-other", true),
+                () -> pet.getProperties().put("other", new SchemaImpl()),
+                () -> pet.getRequired().add("age"),
+                () -> frozen.getComponents().getSecuritySchemes().get("oauth").getFlows().getImplicit().getScopes().addScope("w", "w"))
+                .forEach(mutation -> expectThrows(UnsupportedOperationException.class, mutation::run));
+        assertEquals(write(frozen), write(api));
+
+        // copies are mutable again
+        final OpenAPI copy = new OpenAPICopier().copy(frozen);
+        copy.getPaths().get("/pets/{id}").getGET().setDescription("changed");
+        copy.getPaths().addPathItem("/other", new PathItemImpl());
+        assertEquals(copy.getPaths().size(), 2);
+    }
+
+    @Test
+    public void frozenLookup() {
+        final PathsImpl paths = new PathsImpl();
+        IntStream.range(0, 100).forEach(i -> paths.addPathItem("/p" + i, new PathItemImpl().summary("s" + i)));
+        final Paths frozen = new OpenAPICopier().freeze(paths);
+        IntStream.range(0, 100).forEach(i -> assertEquals(frozen.get("/p" + i).getSummary(), "s" + i));
+        assertNull(frozen.get("/missing"));
+        assertEquals(frozen.getPathItems().keySet(), paths.keySet());
+        assertEquals(frozen.hashCode(), new HashMap<>(frozen).hashCode());
+    }
+
+    private static String write(final OpenAPI api) {
+        final StringWriter writer = new StringWriter();
+        new OpenAPIJsonWriter().write(api, writer);
+        return writer.toString();
+    }
+}
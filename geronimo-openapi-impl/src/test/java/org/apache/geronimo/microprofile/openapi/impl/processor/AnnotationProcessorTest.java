@@ -30,6 +30,8 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import org.testng.annotations.Test;
 
 import javax.json.JsonPatch;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
 import javax.ws.rs.BeanParam;
 import javax.ws.rs.CookieParam;
 import javax.ws.rs.DELETE;
@@ -42,12 +44,16 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
@@ -177,6 +183,63 @@ public class AnnotationProcessorTest {
                 .collect(joining(",")), "header<=first(string):the one,cookie<=second(string):null");
     }
 
+    @Test
+    public void forkedProcessingMatchesSequentialOne() throws Exception {
+        final List<Class<?>> classes = asList(TestResource.class, Items.class, Patched.class, RootPath.class, Orders.class);
+
+        final AnnotationProcessor sequentialProcessor = new AnnotationProcessor((value, def) -> null, new NamingStrategy.Default(), null);
+        final OpenAPI sequential = new OpenAPIImpl();
+        classes.forEach(c -> sequentialProcessor.processClass("", sequential, new ClassElement(c),
+                Stream.of(c.getMethods()).map(MethodElement::new)));
+
+        final AnnotationProcessor parallelProcessor = new AnnotationProcessor((value, def) -> null, new NamingStrategy.Default(), null);
+        final OpenAPI parallel = new OpenAPIImpl();
+        final AnnotationProcessor.Fork fork = parallelProcessor.fork(parallel);
+        final List<AnnotationProcessor.ForkedClass> forked = classes.parallelStream()
+                .map(c -> fork.processClass("", new ClassElement(c), Stream.of(c.getMethods()).map(MethodElement::new)))
+                .collect(toList());
+        final Collection<Class<?>> replayed = new ArrayList<>();
+        for (int i = 0; i < classes.size(); i++) {
+            if (!forked.get(i).mergeInto(parallel)) {
+                final Class<?> c = classes.get(i);
+                replayed.add(c);
+                parallelProcessor.processClass("", parallel, new ClassElement(c), Stream.of(c.getMethods()).map(MethodElement::new));
+            }
+        }
+        // reuse an operation name, a path or a schema of a previous class
+        assertEquals(replayed, asList(Patched.class, RootPath.class, Orders.class));
+
+        try (final Jsonb jsonb = JsonbBuilder.create()) {
+            assertEquals(jsonb.toJson(parallel), jsonb.toJson(sequential));
+        }
+    }
+
+    @Path("/items")
+    public class Items {
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Item list() {
+            return null;
+        }
+    }
+
+    @Path("/orders")
+    public class Orders {
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Item list() {
+            return null;
+        }
+    }
+
+    public static class Item {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
     @Path("/")
     public class Patched {
 
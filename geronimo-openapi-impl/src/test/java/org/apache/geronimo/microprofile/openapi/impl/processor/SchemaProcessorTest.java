@@ -17,6 +17,7 @@
 package org.apache.geronimo.microprofile.openapi.impl.processor;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.ComponentsImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.SchemaImpl;
 import org.apache.geronimo.microprofile.openapi.openjpa.Entity1;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.media.Schema;
@@ -27,16 +28,31 @@ import javax.json.JsonObject;
 import javax.json.JsonValue;
 import javax.json.bind.annotation.JsonbProperty;
 import java.lang.reflect.Type;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 public class SchemaProcessorTest {
+    private static final String LEFT = "org_apache_geronimo_microprofile_openapi_impl_processor_SchemaProcessorTest_Left";
+    private static final String RIGHT = "org_apache_geronimo_microprofile_openapi_impl_processor_SchemaProcessorTest_Right";
+
     @Test
     public void primitiveExample() {
         final Supplier<Components> components = newComponentsProvider();
@@ -78,6 +94,16 @@ public class SchemaProcessorTest {
         assertEquals(Schema.SchemaType.STRING, schema.getProperties().get("name").getType());
     }
 
+    @Test
+    public void pooledRefs() {
+        final Supplier<Components> components = newComponentsProvider();
+        final SchemaProcessor processor = new SchemaProcessor();
+        final String first = processor.mapSchemaFromClass(components, Data.class).getRef();
+        final String second = processor.mapSchemaFromClass(components, Data.class).getRef();
+        assertEquals(first, "#/components/schemas/" + Data.class.getName().replace('.', '_').replace('$', '_'));
+        assertSame(first, second);
+    }
+
     @Test
     public void mapJsonb() {
         Supplier<Components> components = newComponentsProvider();
@@ -172,6 +198,83 @@ public class SchemaProcessorTest {
         assertEquals("#/components/schemas/org_apache_geronimo_microprofile_openapi_impl_processor_SchemaProcessorTest_SomeTypeField", anotherType.getRef());
     }
 
+    @Test
+    public void concurrentCyclicTypes() throws Exception {
+        final Components components = new ComponentsImpl();
+        final SchemaProcessor processor = new SchemaProcessor();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Schema>> results = IntStream.range(0, 64)
+                    .mapToObj(i -> pool.submit(() -> {
+                        start.await();
+                        return processor.mapSchemaFromClass(() -> components, i % 2 == 0 ? Left.class : Right.class);
+                    }))
+                    .collect(toList());
+            start.countDown();
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i).get().getRef(), "#/components/schemas/" + (i % 2 == 0 ? LEFT : RIGHT));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(components.getSchemas().keySet(), Stream.of(LEFT, RIGHT).collect(toSet()));
+        assertEquals(components.getSchemas().get(LEFT).getProperties().get("right").getRef(), "#/components/schemas/" + RIGHT);
+        assertEquals(components.getSchemas().get(RIGHT).getProperties().get("left").getRef(), "#/components/schemas/" + LEFT);
+    }
+
+    @Test
+    public void sharedCacheIsolatesTheModels() {
+        final String name = "org_apache_geronimo_microprofile_openapi_impl_processor_SchemaProcessorTest_SomeClass";
+        final SchemaCache cache = new SchemaCache();
+        final Components first = new ComponentsImpl();
+        new SchemaProcessor(cache).mapSchemaFromClass(() -> first, SomeClass.class);
+        final Components second = new ComponentsImpl();
+        new SchemaProcessor(cache).mapSchemaFromClass(() -> second, SomeClass.class);
+        final Set<String> properties = new HashSet<>(second.getSchemas().get(name).getProperties().keySet());
+
+        // a served model is mutable by default, editing one application must not change the others
+        first.getSchemas().get(name).description("edited").addProperty("added", new SchemaImpl());
+        second.getSchemas().get(name).getProperties().remove(properties.iterator().next());
+
+        final Components rebuilt = new ComponentsImpl();
+        new SchemaProcessor(cache).mapSchemaFromClass(() -> rebuilt, SomeClass.class);
+        assertNull(rebuilt.getSchemas().get(name).getDescription());
+        assertEquals(rebuilt.getSchemas().get(name).getProperties().keySet(), properties);
+        assertNull(second.getSchemas().get(name).getDescription());
+        assertFalse(second.getSchemas().get(name).getProperties().containsKey("added"));
+    }
+
+    @Test
+    public void sharedCache() {
+        final SchemaCache cache = new SchemaCache();
+        final Components first = new ComponentsImpl();
+        new SchemaProcessor(cache).mapSchemaFromClass(() -> first, SomeClass.class);
+
+        final Components second = new ComponentsImpl();
+        final Schema ref = new SchemaProcessor(cache).mapSchemaFromClass(() -> second, SomeClass.class);
+        assertSomeClass(ref);
+        assertEquals(second.getSchemas().keySet(), first.getSchemas().keySet());
+        first.getSchemas().forEach((name, schema) -> { // copies of the cached graph
+            final Schema reused = second.getSchemas().get(name);
+            assertNotSame(reused, schema);
+            assertEquals(reused.getType(), schema.getType());
+            assertEquals(reused.getProperties().keySet(), schema.getProperties().keySet());
+        });
+
+        // not the same component name so the graph is built again
+        final Components renamed = new ComponentsImpl();
+        final SchemaProcessor processor = new SchemaProcessor(cache);
+        processor.fillSchema(() -> renamed, SomeRelatedClass.class, new SchemaImpl(), "Related");
+        processor.mapSchemaFromClass(() -> renamed, SomeClass.class);
+        assertEquals(renamed.getSchemas().keySet(), Stream.of(
+                "Related", "org_apache_geronimo_microprofile_openapi_impl_processor_SchemaProcessorTest_SomeClass").collect(toSet()));
+        assertNotSame(renamed.getSchemas().get("Related"), first.getSchemas().get(
+                "org_apache_geronimo_microprofile_openapi_impl_processor_SchemaProcessorTest_SomeRelatedClass"));
+        assertEquals(renamed.getSchemas().get("org_apache_geronimo_microprofile_openapi_impl_processor_SchemaProcessorTest_SomeClass")
+                .getProperties().get("children").getItems().getRef(), "#/components/schemas/Related");
+    }
+
     private Supplier<Components> newComponentsProvider() {
         final ComponentsImpl components = new ComponentsImpl();
         return () -> components;
@@ -226,6 +329,14 @@ public class SchemaProcessorTest {
         protected SomeClass child;
     }
 
+    public static class Left {
+        protected Right right;
+    }
+
+    public static class Right {
+        protected Left left;
+    }
+
     public static class SomeRelatedClass {
         protected String simple;
         protected List<SomeRelatedClass> children;
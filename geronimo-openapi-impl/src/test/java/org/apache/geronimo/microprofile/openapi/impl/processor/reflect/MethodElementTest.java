@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.impl.processor.reflect;
+
+import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotatedTypeElement;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import java.lang.annotation.Annotation;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class MethodElementTest {
+    @Test
+    public void mergesInterfaceAnnotations() throws NoSuchMethodException {
+        final MethodElement element = new MethodElement(Impl.class.getMethod("get", String.class, String.class));
+        assertNotNull(element.getAnnotation(GET.class));
+        assertEquals("impl", element.getAnnotation(Produces.class).value()[0]); // class wins
+        assertEquals("{id}", element.getAnnotation(Path.class).value());
+        assertNull(element.getAnnotation(QueryParam.class));
+        assertEquals(Stream.of(Deprecated.class, Produces.class, GET.class, Path.class).collect(toSet()),
+                Stream.of(element.getAnnotations()).map(Annotation::annotationType).collect(toSet()));
+        assertNotSame(element.getParameters(), element.getParameters());
+        assertSame(element.getParameters()[0], element.getParameters()[0]);
+
+        final AnnotatedTypeElement[] parameters = element.getParameters();
+        assertEquals(2, parameters.length);
+        assertEquals(String.class, parameters[0].getType());
+        assertEquals("id", parameters[0].getAnnotation(PathParam.class).value());
+        assertEquals("q", parameters[1].getAnnotation(QueryParam.class).value());
+        assertEquals("impl", parameters[1].getAnnotation(DefaultValue.class).value());
+        assertEquals(Stream.of(QueryParam.class, DefaultValue.class).collect(toSet()),
+                Stream.of(parameters[1].getAnnotations()).map(Annotation::annotationType).collect(toSet()));
+    }
+
+    public interface Api {
+        @GET
+        @Path("{id}")
+        @Produces("api")
+        String get(@PathParam("id") String id, @QueryParam("q") @DefaultValue("api") String q);
+    }
+
+    public static class Impl implements Api {
+        @Override
+        @Deprecated
+        @Produces("impl")
+        public String get(final String id, @DefaultValue("impl") final String q) {
+            return id;
+        }
+    }
+}
@@ -17,7 +17,15 @@
 package org.apache.geronimo.microprofile.openapi.impl.serialization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.Json;
+import javax.json.JsonValue;
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbConfig;
@@ -49,6 +57,47 @@ public class SerializationTest {
         assertEquals("---\ndefault:\n  description: \"test\"\n\"200\":\n  description: \"ok\"\n", Yaml.getObjectMapper().writeValueAsString(responses));
     }
 
+    @Test
+    public void yamlRoundTrip() throws Exception {
+        assertSame(Yaml.getObjectMapper(), Yaml.getObjectMapper());
+
+        final OpenAPI api = new OpenAPIImpl()
+                .info(new InfoImpl().title("test").version("1.0"))
+                .paths(new PathsImpl().addPathItem("/foo", new PathItemImpl().GET(new OperationImpl().operationId("foo"))));
+        final String yaml = Yaml.getOpenAPIWriter().writeValueAsString(api);
+        final OpenAPI loaded = Yaml.loadAPI(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+        assertEquals("test", loaded.getInfo().getTitle());
+        assertEquals("foo", loaded.getPaths().get("/foo").getGET().getOperationId());
+        assertEquals(yaml, Yaml.getObjectMapper().writeValueAsString(loaded));
+    }
+
+    @Test
+    public void yamlJsonValues() throws Exception {
+        final OperationImpl operation = new OperationImpl();
+        operation.addExtension("x-object", Json.createObjectBuilder()
+                .add("int", 1)
+                .add("decimal", 1.5)
+                .add("big", new BigInteger("12345678901234567890"))
+                .add("scaled", new BigDecimal("1.0"))
+                .add("string", "value")
+                .addNull("null")
+                .add("array", Json.createArrayBuilder().add(true).add(Json.createObjectBuilder().add("nested", false)))
+                .build());
+        operation.addExtension("x-null", JsonValue.NULL);
+        assertEquals("---\n" +
+                "x-object:\n" +
+                "  int: 1\n" +
+                "  decimal: 1.5\n" +
+                "  big: 12345678901234567890\n" +
+                "  scaled: 1.0\n" +
+                "  string: \"value\"\n" +
+                "  null: null\n" +
+                "  array:\n" +
+                "  - true\n" +
+                "  - nested: false\n" +
+                "x-null: null\n", Yaml.getObjectMapper().writeValueAsString(operation));
+    }
+
     @Test
     public void serialize() throws Exception {
         final PathItem item = new PathItemImpl();
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.jaxrs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.junit.Test;
+
+public class OpenAPIDocumentTest {
+    @Test
+    public void renderOnce() throws IOException {
+        final AtomicInteger renderings = new AtomicInteger();
+        final OpenAPIDocument document = new OpenAPIDocument(new OpenAPIImpl());
+        final OpenAPIDocument.Representation first = document.getOrRender(APPLICATION_JSON_TYPE, type -> {
+            renderings.incrementAndGet();
+            return "{}".getBytes(UTF_8);
+        });
+        assertSame(first, document.getOrRender(MediaType.valueOf("application/json;charset=UTF-8"), type -> {
+            throw new IllegalStateException("already rendered");
+        }));
+        assertEquals(1, renderings.get());
+        assertEquals("{}", content(first));
+
+        document.invalidate();
+        final OpenAPIDocument.Representation second = document.getOrRender(APPLICATION_JSON_TYPE, type -> {
+            renderings.incrementAndGet();
+            return "{\"openapi\":\"3.0.1\"}".getBytes(UTF_8);
+        });
+        assertEquals(2, renderings.get());
+        assertEquals("{\"openapi\":\"3.0.1\"}", content(second));
+    }
+
+    @Test
+    public void entityTag() {
+        final OpenAPIDocument document = new OpenAPIDocument(new OpenAPIImpl());
+        assertEquals(0, document.getLastModified().getTime() % 1000);
+
+        final OpenAPIDocument.Representation json = document.getOrRender(APPLICATION_JSON_TYPE, type -> "{}".getBytes(UTF_8));
+        assertFalse(json.getEntityTag().isWeak());
+
+        final OpenAPIDocument.Representation yaml = document.getOrRender(MediaType.valueOf("text/vnd.yaml"), type -> "---\n".getBytes(UTF_8));
+        assertNotEquals(json.getEntityTag(), yaml.getEntityTag());
+
+        document.invalidate();
+        assertEquals(json.getEntityTag(), document.getOrRender(APPLICATION_JSON_TYPE, type -> "{}".getBytes(UTF_8)).getEntityTag());
+    }
+
+    @Test
+    public void lastModifiedAfterInvalidate() {
+        final OpenAPIDocument document = new OpenAPIDocument(new OpenAPIImpl());
+        final Date first = document.getLastModified();
+        final OpenAPIDocument view = document.getOrCreateView("partners", model -> new OpenAPIImpl());
+        assertEquals(first, view.getLastModified());
+
+        document.invalidate(); // in the same second, an If-Modified-Since of the previous value must not match
+        final Date second = document.getLastModified();
+        assertTrue(second.after(first));
+        assertEquals(0, second.getTime() % 1000);
+        assertEquals(second, document.getOrCreateView("partners", model -> new OpenAPIImpl()).getLastModified());
+    }
+
+    @Test
+    public void compressed() throws IOException {
+        final StringBuilder json = new StringBuilder("{\"paths\":{");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "" : ",").append("\"/resource").append(i).append("\":{}");
+        }
+        final String expected = json.append("}}").toString();
+
+        final OpenAPIDocument document = new OpenAPIDocument(new OpenAPIImpl());
+        final OpenAPIDocument.Representation identity = document.getOrRender(APPLICATION_JSON_TYPE, type -> expected.getBytes(UTF_8));
+        assertNull(identity.getEncoding());
+
+        final OpenAPIDocument.Representation gzip = identity.encode("gzip");
+        assertSame(gzip, identity.encode("gzip"));
+        assertEquals("gzip", gzip.getEncoding());
+        assertEquals(identity.getEntityTag().getValue() + "-gzip", gzip.getEntityTag().getValue());
+        assertTrue(gzip.getLength() < identity.getLength());
+        try (final InputStream stream = new GZIPInputStream(new ByteArrayInputStream(bytes(gzip)))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[512];
+            int read;
+            while ((read = stream.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+            }
+            assertEquals(expected, new String(out.toByteArray(), UTF_8));
+        }
+
+        // too small to benefit from compression
+        final OpenAPIDocument.Representation tiny = document.getOrRender(MediaType.valueOf("text/vnd.yaml"), type -> "{}".getBytes(UTF_8));
+        assertSame(tiny, tiny.encode("deflate"));
+    }
+
+    @Test
+    public void views() {
+        final AtomicInteger creations = new AtomicInteger();
+        final OpenAPIDocument document = new OpenAPIDocument(new OpenAPIImpl(), 2);
+        final OpenAPIDocument partners = document.getOrCreateView("partners", model -> {
+            creations.incrementAndGet();
+            return new OpenAPIImpl().openapi("partners");
+        });
+        assertEquals("partners", partners.getModel().getOpenapi());
+        assertEquals(document.getLastModified(), partners.getLastModified());
+        assertSame(partners, document.getOrCreateView("partners", model -> {
+            throw new IllegalStateException("already created");
+        }));
+        assertEquals(1, creations.get());
+
+        // least recently used view is evicted
+        final OpenAPIDocument internal = document.getOrCreateView("internal", model -> new OpenAPIImpl());
+        document.getOrCreateView("partners", model -> new OpenAPIImpl());
+        document.getOrCreateView("admin", model -> new OpenAPIImpl());
+        assertSame(partners, document.getOrCreateView("partners", model -> new OpenAPIImpl()));
+        assertNotSame(internal, document.getOrCreateView("internal", model -> new OpenAPIImpl()));
+
+        document.invalidate();
+        assertNotSame(partners, document.getOrCreateView("partners", model -> new OpenAPIImpl()));
+    }
+
+    @Test
+    public void unsupportedMediaType() {
+        final OpenAPIDocument document = new OpenAPIDocument(new OpenAPIImpl());
+        assertNull(document.getOrRender(MediaType.valueOf("foo/bar"), type -> null));
+    }
+
+    private String content(final OpenAPIDocument.Representation representation) throws IOException {
+        return new String(bytes(representation), UTF_8);
+    }
+
+    private byte[] bytes(final OpenAPIDocument.Representation representation) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        representation.writeTo(out);
+        return out.toByteArray();
+    }
+}
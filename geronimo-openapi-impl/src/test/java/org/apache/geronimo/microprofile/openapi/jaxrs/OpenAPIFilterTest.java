@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geronimo.microprofile.openapi.jaxrs;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.apache.geronimo.microprofile.openapi.cdi.GeronimoOpenAPIExtension;
+import org.apache.geronimo.microprofile.openapi.impl.model.InfoImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.Test;
+
+public class OpenAPIFilterTest {
+    private static final List<String> SUPPORTED = asList("gzip", "deflate");
+
+    @Test
+    public void selectEncoding() {
+        assertNull(OpenAPIFilter.selectEncoding(null, SUPPORTED));
+        assertNull(OpenAPIFilter.selectEncoding("", SUPPORTED));
+        assertNull(OpenAPIFilter.selectEncoding("br", SUPPORTED));
+        assertNull(OpenAPIFilter.selectEncoding("gzip", emptyList()));
+        assertEquals("gzip", OpenAPIFilter.selectEncoding("gzip, deflate, br", SUPPORTED));
+        assertEquals("gzip", OpenAPIFilter.selectEncoding("deflate, GZIP", SUPPORTED));
+        assertEquals("deflate", OpenAPIFilter.selectEncoding("gzip;q=0.5, deflate", SUPPORTED));
+        assertEquals("deflate", OpenAPIFilter.selectEncoding("*", asList("deflate", "gzip")));
+        assertNull(OpenAPIFilter.selectEncoding("gzip;q=0, *;q=0", SUPPORTED));
+        assertEquals("deflate", OpenAPIFilter.selectEncoding("gzip;q=0, *", SUPPORTED));
+    }
+
+    @Test
+    public void baseDocumentIsPrivateWithViews() throws Exception {
+        final Response withoutViews = serve(newFilter(null), null);
+        assertNull(withoutViews.getMetadata().getFirst(HttpHeaders.CACHE_CONTROL));
+        assertNull(withoutViews.getMetadata().getFirst(HttpHeaders.VARY));
+
+        final OpenAPIFilter filter = newFilter(new OpenAPIViews() {
+            @Override
+            public String getKey(final ContainerRequestContext request) {
+                return request.getHeaderString("X-View");
+            }
+
+            @Override
+            public List<OASFilter> getFilters(final String key) {
+                return singletonList(new OASFilter() {
+                    @Override
+                    public void filterOpenAPI(final OpenAPI openAPI) {
+                        openAPI.info(new InfoImpl().title(key));
+                    }
+                });
+            }
+        });
+        assertEquals("private", serve(filter, null).getMetadata().getFirst(HttpHeaders.CACHE_CONTROL));
+        assertEquals("private", serve(filter, "partners").getMetadata().getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void invalidateRendersTheDefaultType() throws Exception {
+        final OpenAPIDocument document = new OpenAPIDocument(new OpenAPIImpl());
+        final OpenAPIFilter filter = newFilter(document, null);
+        final OpenAPIDocument.Representation first = document.getOrRender(MediaType.APPLICATION_JSON_TYPE, it -> new byte[0]);
+        filter.invalidate();
+        final OpenAPIDocument.Representation rendered = document.getOrRender(MediaType.APPLICATION_JSON_TYPE, it -> {
+            throw new IllegalStateException("rendered by invalidate()");
+        });
+        assertNotEquals(first.getEntityTag(), rendered.getEntityTag());
+    }
+
+    private static OpenAPIFilter newFilter(final OpenAPIViews views) throws Exception {
+        return newFilter(new OpenAPIDocument(new OpenAPIImpl()), views);
+    }
+
+    private static OpenAPIFilter newFilter(final OpenAPIDocument document, final OpenAPIViews views) throws Exception {
+        final OpenAPIJsonWriter jsonWriter = new OpenAPIJsonWriter();
+        final OpenAPIFilter filter = new OpenAPIFilter();
+        inject(filter, "extension", new GeronimoOpenAPIExtension() {
+            @Override
+            public OpenAPIDocument getOrCreateDocument(final Application application) {
+                return document;
+            }
+
+            @Override
+            public OpenAPI createView(final OpenAPI model, final List<OASFilter> filters) {
+                final OpenAPI view = new OpenAPIImpl();
+                filters.forEach(it -> it.filterOpenAPI(view));
+                return view;
+            }
+
+            @Override
+            public List<String> getCompressionEncodings() {
+                return emptyList();
+            }
+
+            @Override
+            public MediaType getDefaultMediaType() {
+                return MediaType.APPLICATION_JSON_TYPE;
+            }
+
+            @Override
+            public OpenAPIJsonWriter getJsonWriter() {
+                return jsonWriter;
+            }
+        });
+        final Method init = OpenAPIFilter.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(filter);
+        inject(filter, "views", views);
+        filter.setApplication(new Application());
+        return filter;
+    }
+
+    private static Response serve(final OpenAPIFilter filter, final String view) {
+        final ClassLoader loader = OpenAPIFilterTest.class.getClassLoader();
+        final Request request = Request.class.cast(Proxy.newProxyInstance(loader, new Class<?>[]{Request.class},
+                (proxy, method, args) -> "getMethod".equals(method.getName()) ? "GET" : null));
+        final UriInfo uriInfo = UriInfo.class.cast(Proxy.newProxyInstance(loader, new Class<?>[]{UriInfo.class},
+                (proxy, method, args) -> "getPath".equals(method.getName()) ? "openapi.json" : null));
+        final AtomicReference<Response> response = new AtomicReference<>();
+        filter.filter(ContainerRequestContext.class.cast(Proxy.newProxyInstance(loader, new Class<?>[]{ContainerRequestContext.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getRequest":
+                            return request;
+                        case "getUriInfo":
+                            return uriInfo;
+                        case "getHeaderString":
+                            return "X-View".equals(args[0]) ? view : null;
+                        case "abortWith":
+                            response.set(Response.class.cast(args[0]));
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                })));
+        return response.get();
+    }
+
+    private static void inject(final Object instance, final String name, final Object value) throws Exception {
+        final Field field = OpenAPIFilter.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+}
@@ -18,6 +18,7 @@ package org.apache.geronimo.microprofile.openapi.mojo;
 
 import org.apache.geronimo.microprofile.openapi.impl.model.InfoImpl;
 import org.apache.geronimo.microprofile.openapi.impl.model.OpenAPIImpl;
+import org.apache.geronimo.microprofile.openapi.impl.model.codec.OpenAPIJsonWriter;
 import org.apache.geronimo.microprofile.openapi.impl.processor.AnnotationProcessor;
 import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.ClassElement;
 import org.apache.geronimo.microprofile.openapi.impl.processor.reflect.MethodElement;
@@ -31,9 +32,11 @@ import org.apache.maven.project.MavenProject;
 import org.apache.xbean.finder.AnnotationFinder;
 import org.apache.xbean.finder.archive.FileArchive;
 
+import javax.json.Json;
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbConfig;
+import javax.json.stream.JsonGenerator;
 import javax.ws.rs.ApplicationPath;
 import javax.ws.rs.Path;
 import java.io.File;
@@ -54,6 +57,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_CLASSES;
@@ -67,6 +72,11 @@ public class OpenAPIMojo extends AbstractMojo {
     @Parameter(property = "geronimo-openapi.prettify", defaultValue = "true")
     protected boolean prettify;
 
+    // true to serialize the model with the dedicated writer instead of JSON-B,
+    // the output also contains the extensions JSON-B drops (info, schemas...)
+    @Parameter(property = "geronimo-openapi.nativeJson", defaultValue = "false")
+    protected boolean nativeJson;
+
     @Parameter(property = "geronimo-openapi.output", defaultValue = "${project.build.outputDirectory}/META-INF/resources/openapi.json")
     protected File output;
 
@@ -173,10 +183,16 @@ public class OpenAPIMojo extends AbstractMojo {
         api.info(info);
 
         output.getParentFile().mkdirs();
-        try (final Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withFormatting(prettify));
-             final Writer writer = Files.newBufferedWriter(
-                     output.toPath(), encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding))) {
-            jsonb.toJson(api, writer);
+        try (final Writer writer = Files.newBufferedWriter(
+                output.toPath(), encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding))) {
+            if (nativeJson) {
+                new OpenAPIJsonWriter(Json.createGeneratorFactory(prettify ?
+                        singletonMap(JsonGenerator.PRETTY_PRINTING, true) : emptyMap())).write(api, writer);
+            } else {
+                try (final Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withFormatting(prettify))) {
+                    jsonb.toJson(api, writer);
+                }
+            }
         } catch (final Exception e) {
             throw new MojoExecutionException(e.getMessage(), e);
         }